@@ -0,0 +1,129 @@
+package com.hanabezdrob.scoreboard.benchmarks;
+
+import com.hanabezdrob.scoreboard.ConcurrentScoreboard;
+import com.hanabezdrob.scoreboard.Match;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Multi-threaded throughput of {@link ConcurrentScoreboard}. The board is pre-filled with {@code liveMatches}
+ * fixtures and every writer thread additionally owns a handful of matches it keeps scoring in.
+ * Run with {@code -t 1} for the single-threaded baseline of the update and summary paths.
+ *
+ * <p>{@link #mixed} runs {@value #MIXED_THREADS} threads of which the first {@code writerThreads} write and the rest
+ * read; its {@code reads} and {@code writes} counters split the throughput by role.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConcurrentScoreboardBenchmark {
+    private static final int MATCHES_PER_WRITER = 16;
+    private static final int MIXED_THREADS = 8;
+
+    @Param({"10", "1000", "100000"})
+    private int liveMatches;
+
+    private ConcurrentScoreboard scoreboard;
+    private Fixtures.Board board;
+    private final AtomicInteger writers = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        scoreboard = new ConcurrentScoreboard();
+        board = Fixtures.Board.of(scoreboard);
+        Fixtures.startMatches(board, "Live", liveMatches);
+    }
+
+    @State(Scope.Thread)
+    public static class Writer {
+        private Match[] matches;
+        private int next;
+
+        @Setup(Level.Trial)
+        public void setUp(final ConcurrentScoreboardBenchmark benchmark) {
+            final String prefix = "Writer " + benchmark.writers.getAndIncrement();
+            matches = Fixtures.startMatches(benchmark.board, prefix, MATCHES_PER_WRITER);
+        }
+
+        private Match advance(final Fixtures.Board board) {
+            final int i = next;
+            next = (i + 1) % MATCHES_PER_WRITER;
+            matches[i] = Fixtures.advance(board, matches[i]);
+            return matches[i];
+        }
+    }
+
+    /** Read/write split of {@link #mixed}, kept out of the other benchmarks' parameter space. */
+    @State(Scope.Benchmark)
+    public static class Mix {
+        @Param({"1", "2", "4", "6"})
+        private int writerThreads;
+
+        private final AtomicInteger threads = new AtomicInteger();
+    }
+
+    /** Role of one {@link #mixed} thread and its operation counts, reported next to the combined throughput. */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class MixedThread {
+        public long reads;
+        public long writes;
+        private Writer writer;
+
+        @Setup(Level.Trial)
+        public void setUp(final ConcurrentScoreboardBenchmark benchmark, final Mix mix) {
+            if (mix.threads.getAndIncrement() < mix.writerThreads) {
+                writer = new Writer();
+                writer.setUp(benchmark);
+            }
+        }
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            reads = 0;
+            writes = 0;
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Match updateMatchScore(final Writer writer) {
+        return writer.advance(board);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public List<Match> getSummary() {
+        return scoreboard.getSummary();
+    }
+
+    @Benchmark
+    @Threads(MIXED_THREADS)
+    public Object mixed(final MixedThread thread) {
+        if (thread.writer != null) {
+            thread.writes++;
+            return thread.writer.advance(board);
+        }
+        thread.reads++;
+        return scoreboard.getSummary();
+    }
+}
@@ -0,0 +1,86 @@
+package com.hanabezdrob.scoreboard.benchmarks;
+
+import com.hanabezdrob.scoreboard.ConcurrentScoreboard;
+import com.hanabezdrob.scoreboard.Match;
+import com.hanabezdrob.scoreboard.Score;
+import com.hanabezdrob.scoreboard.Scoreboard;
+
+/**
+ * Shared board set-up for the benchmarks. Matches are advanced one home goal at a time and restarted once they
+ * reach {@link Scoreboard#MAX_SCORE}, so a benchmark can update the same fixtures indefinitely.
+ */
+final class Fixtures {
+    private Fixtures() {
+    }
+
+    /** The board operations the fixtures drive, so one helper serves every board type. */
+    interface Board {
+        Match startMatch(String homeTeam, String awayTeam);
+
+        Match updateMatchScore(Match match, Score score);
+
+        void finishMatch(Match match);
+
+        static Board of(final Scoreboard scoreboard) {
+            return new Board() {
+                @Override
+                public Match startMatch(final String homeTeam, final String awayTeam) {
+                    return scoreboard.startMatch(homeTeam, awayTeam);
+                }
+
+                @Override
+                public Match updateMatchScore(final Match match, final Score score) {
+                    return scoreboard.updateMatchScore(match, score);
+                }
+
+                @Override
+                public void finishMatch(final Match match) {
+                    scoreboard.finishMatch(match);
+                }
+            };
+        }
+
+        static Board of(final ConcurrentScoreboard scoreboard) {
+            return new Board() {
+                @Override
+                public Match startMatch(final String homeTeam, final String awayTeam) {
+                    return scoreboard.startMatch(homeTeam, awayTeam);
+                }
+
+                @Override
+                public Match updateMatchScore(final Match match, final Score score) {
+                    return scoreboard.updateMatchScore(match, score);
+                }
+
+                @Override
+                public void finishMatch(final Match match) {
+                    scoreboard.finishMatch(match);
+                }
+            };
+        }
+    }
+
+    static String homeTeam(final String prefix, final int i) {
+        return prefix + " home " + i;
+    }
+
+    static String awayTeam(final String prefix, final int i) {
+        return prefix + " away " + i;
+    }
+
+    static Match[] startMatches(final Board board, final String prefix, final int count) {
+        final Match[] matches = new Match[count];
+        for (int i = 0; i < count; i++) {
+            matches[i] = board.startMatch(homeTeam(prefix, i), awayTeam(prefix, i));
+        }
+        return matches;
+    }
+
+    static Match advance(final Board board, final Match match) {
+        if (match.getHomeScore() == Scoreboard.MAX_SCORE) {
+            board.finishMatch(match);
+            return board.startMatch(match.homeTeam(), match.awayTeam());
+        }
+        return board.updateMatchScore(match, new Score(match.getHomeScore() + 1, match.getAwayScore()));
+    }
+}
@@ -0,0 +1,63 @@
+package com.hanabezdrob.scoreboard.benchmarks;
+
+import com.hanabezdrob.scoreboard.Match;
+import com.hanabezdrob.scoreboard.Scoreboard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dashboard-style traffic on a single-threaded {@link Scoreboard}: one score update followed by
+ * {@code readsPerWrite} summary reads. Scores are reported per operation, reads and writes alike.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ReadWriteMixBenchmark {
+    @Param({"10", "1000", "100000"})
+    private int liveMatches;
+
+    @Param({"1", "10", "100", "1000"})
+    private int readsPerWrite;
+
+    private Scoreboard scoreboard;
+    private Fixtures.Board board;
+    private Match[] matches;
+    private int next;
+    private int readsUntilWrite;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        scoreboard = new Scoreboard();
+        board = Fixtures.Board.of(scoreboard);
+        matches = Fixtures.startMatches(board, "Live", liveMatches);
+    }
+
+    @Benchmark
+    public Object operation() {
+        if (readsUntilWrite > 0) {
+            readsUntilWrite--;
+            return scoreboard.getSummary();
+        }
+
+        readsUntilWrite = readsPerWrite;
+        final int i = next;
+        next = i + 1 == matches.length ? 0 : i + 1;
+        matches[i] = Fixtures.advance(board, matches[i]);
+        return matches[i];
+    }
+}
@@ -0,0 +1,81 @@
+package com.hanabezdrob.scoreboard.benchmarks;
+
+import com.hanabezdrob.scoreboard.Match;
+import com.hanabezdrob.scoreboard.Scoreboard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-threaded cost of each {@link Scoreboard} operation as the number of live matches grows.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ScoreboardBenchmark {
+    @Param({"10", "1000", "10000", "100000"})
+    private int liveMatches;
+
+    private Scoreboard scoreboard;
+    private Fixtures.Board board;
+    private Match[] matches;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        scoreboard = new Scoreboard();
+        board = Fixtures.Board.of(scoreboard);
+        matches = Fixtures.startMatches(board, "Live", liveMatches);
+    }
+
+    /** Starts and finishes one extra fixture, keeping the board size constant. */
+    @Benchmark
+    public Match startAndFinishMatch() {
+        final Match match = scoreboard.startMatch("Extra home", "Extra away");
+        scoreboard.finishMatch(match);
+        return match;
+    }
+
+    @Benchmark
+    public Match updateMatchScore() {
+        return advanceNext();
+    }
+
+    /** Repeated reads of an unchanged board, served from the cached summary. */
+    @Benchmark
+    public List<Match> getSummary() {
+        return scoreboard.getSummary();
+    }
+
+    /**
+     * One score update followed by a summary read, so every read rebuilds the summary. Subtract
+     * {@link #updateMatchScore} for the rebuild alone.
+     */
+    @Benchmark
+    public List<Match> getSummaryAfterUpdate() {
+        advanceNext();
+        return scoreboard.getSummary();
+    }
+
+    private Match advanceNext() {
+        final int i = next;
+        next = i + 1 == matches.length ? 0 : i + 1;
+        matches[i] = Fixtures.advance(board, matches[i]);
+        return matches[i];
+    }
+}
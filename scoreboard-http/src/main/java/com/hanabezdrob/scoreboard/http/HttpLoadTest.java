@@ -0,0 +1,137 @@
+package com.hanabezdrob.scoreboard.http;
+
+import com.hanabezdrob.scoreboard.ConcurrentScoreboard;
+import com.hanabezdrob.scoreboard.LatencyHistogram;
+import com.hanabezdrob.scoreboard.Match;
+import com.hanabezdrob.scoreboard.Score;
+import com.hanabezdrob.scoreboard.Scoreboard;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.lang.String.format;
+
+/**
+ * Load test of {@link ScoreboardHttpServer} over loopback. Starts a {@link ConcurrentScoreboard} with live
+ * matches, a writer scoring goals at a fixed rate and client threads polling {@code /summary} with
+ * {@code If-None-Match}, then prints throughput, the 200/304 split, encodings per board change and latency
+ * percentiles.
+ *
+ * <pre>java -cp scoreboard/target/classes:scoreboard-http/target/classes \
+ *     com.hanabezdrob.scoreboard.http.HttpLoadTest [matches] [clients] [seconds] [goalsPerSecond]</pre>
+ */
+public final class HttpLoadTest {
+    private HttpLoadTest() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final int matches = args.length > 0 ? Integer.parseInt(args[0]) : 1_000;
+        final int clients = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+        final int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        final int goalsPerSecond = args.length > 3 ? Integer.parseInt(args[3]) : 100;
+
+        final ConcurrentScoreboard scoreboard = new ConcurrentScoreboard();
+        final Match[] live = new Match[matches];
+        for (int i = 0; i < matches; i++) {
+            live[i] = scoreboard.startMatch("Home " + i, "Away " + i);
+        }
+
+        final LatencyHistogram latency = new LatencyHistogram();
+        final LongAdder ok = new LongAdder();
+        final LongAdder notModified = new LongAdder();
+        final LongAdder errors = new LongAdder();
+        final long versionBefore = scoreboard.getVersion();
+        final long end = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+
+        try (ScoreboardHttpServer server = ScoreboardHttpServer.start(SummarySource.of(scoreboard),
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0))) {
+            final URI uri = URI.create(format("http://localhost:%d%s",
+                    server.getAddress().getPort(), ScoreboardHttpServer.SUMMARY_PATH));
+            final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+            final long encodingsBefore = server.encodings();
+            final List<Thread> threads = new ArrayList<>();
+            threads.add(Thread.ofVirtual().start(() -> score(scoreboard, live, goalsPerSecond, end)));
+            for (int i = 0; i < clients; i++) {
+                threads.add(Thread.ofVirtual().start(() -> poll(client, uri, end, latency, ok, notModified, errors)));
+            }
+            for (final Thread thread : threads) {
+                thread.join();
+            }
+
+            final long requests = ok.sum() + notModified.sum() + errors.sum();
+            System.out.printf("%d matches, %d clients, %d s, %d goals/s%n", matches, clients, seconds, goalsPerSecond);
+            System.out.printf("requests: %d (%.0f/s), 200: %d, 304: %d, errors: %d%n",
+                    requests, (double) requests / seconds, ok.sum(), notModified.sum(), errors.sum());
+            System.out.printf("board changes: %d, encodings: %d%n",
+                    scoreboard.getVersion() - versionBefore, server.encodings() - encodingsBefore);
+            System.out.printf("latency us: p50 %d, p99 %d, p99.9 %d, max %d%n",
+                    latency.percentile(50) / 1_000, latency.percentile(99) / 1_000,
+                    latency.percentile(99.9) / 1_000, latency.max() / 1_000);
+        }
+    }
+
+    private static void score(final ConcurrentScoreboard scoreboard, final Match[] live, final int goalsPerSecond,
+                              final long end) {
+        final SplittableRandom random = new SplittableRandom(42);
+        final long interval = 1_000_000_000L / Math.max(1, goalsPerSecond);
+        long next = System.nanoTime();
+        while (next < end) {
+            final int i = random.nextInt(live.length);
+            final Match match = live[i];
+            if (match.getHomeScore() == Scoreboard.MAX_SCORE) {
+                scoreboard.finishMatch(match);
+                live[i] = scoreboard.startMatch(match.homeTeam(), match.awayTeam());
+            } else {
+                live[i] = scoreboard.updateMatchScore(match, new Score(match.getHomeScore() + 1, match.getAwayScore()));
+            }
+            next += interval;
+            final long sleep = next - System.nanoTime();
+            if (sleep > 0) {
+                try {
+                    Thread.sleep(Duration.ofNanos(sleep));
+                } catch (final InterruptedException e) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private static void poll(final HttpClient client, final URI uri, final long end, final LatencyHistogram latency,
+                             final LongAdder ok, final LongAdder notModified, final LongAdder errors) {
+        String etag = null;
+        while (System.nanoTime() < end) {
+            final HttpRequest.Builder request = HttpRequest.newBuilder(uri).GET();
+            if (etag != null) {
+                request.header("If-None-Match", etag);
+            }
+            final long start = System.nanoTime();
+            try {
+                final HttpResponse<byte[]> response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+                latency.record(System.nanoTime() - start);
+                switch (response.statusCode()) {
+                    case 200 -> {
+                        ok.increment();
+                        etag = response.headers().firstValue("ETag").orElse(null);
+                    }
+                    case 304 -> notModified.increment();
+                    default -> errors.increment();
+                }
+            } catch (final IOException e) {
+                errors.increment();
+            } catch (final InterruptedException e) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.hanabezdrob.scoreboard.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Embedded HTTP endpoint for a live summary, built on the JDK {@link HttpServer} with one virtual thread per
+ * exchange.
+ *
+ * <ul>
+ *     <li>{@code GET /summary} returns the summary as {@link SummaryJson}. The body is encoded once per board
+ *     version and shared by every request for it; the version is the {@code ETag}, so a client sending it back in
+ *     {@code If-None-Match} gets {@code 304 Not Modified} until the board changes.</li>
+ *     <li>{@code GET /summary/events} is a server-sent event stream that pushes the summary, with the version as
+ *     the event id, whenever the board changes. Slow clients skip to the latest version instead of queueing every
+ *     one; a reconnecting client's {@code Last-Event-ID} suppresses a resend of the version it already has.</li>
+ * </ul>
+ *
+ * <p>Streams wait on a {@link Condition} that a {@link SummarySource} change listener signals, so idle streams cost
+ * no CPU, waiting never pins a virtual thread's carrier, and a change costs one encoding however many clients are
+ * connected. Writers only take the lock while a stream is waiting.</p>
+ */
+public final class ScoreboardHttpServer implements AutoCloseable {
+    public static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(15);
+
+    static final String SUMMARY_PATH = "/summary";
+    static final String EVENTS_PATH = "/summary/events";
+
+    private static final byte[] HEARTBEAT = ":\n\n".getBytes(StandardCharsets.US_ASCII);
+
+    private final SummarySource source;
+    private final SummaryCache cache;
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final Runnable changeListener = this::signalChange;
+    /** Streams blocked in {@link #awaitChange}; written under {@link #lock}. */
+    private volatile int waiting;
+    private volatile boolean closed;
+
+    private ScoreboardHttpServer(final SummarySource source, final InetSocketAddress address) throws IOException {
+        this.source = source;
+        this.cache = new SummaryCache(source);
+        this.server = HttpServer.create(address, 0);
+        server.createContext(SUMMARY_PATH, this::summary);
+        server.createContext(EVENTS_PATH, this::events);
+        server.setExecutor(executor);
+        source.addChangeListener(changeListener);
+        server.start();
+    }
+
+    /** Starts serving {@code source} on {@code address}; port 0 picks a free port, see {@link #getAddress()}. */
+    public static ScoreboardHttpServer start(final SummarySource source, final InetSocketAddress address)
+            throws IOException {
+        Objects.requireNonNull(source, "Source must not be null");
+        Objects.requireNonNull(address, "Address must not be null");
+        return new ScoreboardHttpServer(source, address);
+    }
+
+    /** @return address the server is bound to */
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    /** Stops accepting requests, ends open event streams and detaches from the source. */
+    @Override
+    public void close() {
+        closed = true;
+        source.removeChangeListener(changeListener);
+        lock.lock();
+        try {
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        server.stop(0);
+        executor.shutdown();
+    }
+
+    /** @return number of summaries encoded so far */
+    long encodings() {
+        return cache.encodings();
+    }
+
+    private void summary(final HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!accept(exchange, SUMMARY_PATH)) {
+                return;
+            }
+            final SummaryCache.Payload payload = cache.current();
+            exchange.getResponseHeaders().set("ETag", payload.etag());
+            exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+            if (payload.etag().equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, payload.json().length);
+            exchange.getResponseBody().write(payload.json());
+        }
+    }
+
+    private void events(final HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!accept(exchange, EVENTS_PATH)) {
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+            exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+            exchange.sendResponseHeaders(200, 0);
+            final OutputStream out = exchange.getResponseBody();
+            long sent = lastEventId(exchange);
+            while (!closed) {
+                final SummaryCache.Payload payload = cache.current();
+                if (payload.version() != sent) {
+                    out.write(payload.event());
+                    sent = payload.version();
+                } else if (!awaitChange(sent)) {
+                    out.write(HEARTBEAT);
+                }
+                out.flush();
+            }
+        } catch (final IOException e) {
+            // client disconnected or server stopped
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Answers 404 or 405 and returns false unless the exchange is a GET of exactly {@code path}. */
+    private static boolean accept(final HttpExchange exchange, final String path) throws IOException {
+        if (!exchange.getRequestURI().getPath().equals(path)) {
+            exchange.sendResponseHeaders(404, -1);
+            return false;
+        }
+        if (!"GET".equals(exchange.getRequestMethod())) {
+            exchange.getResponseHeaders().set("Allow", "GET");
+            exchange.sendResponseHeaders(405, -1);
+            return false;
+        }
+        return true;
+    }
+
+    /** @return version the client already has, or -1 if it has none the board knows of */
+    private long lastEventId(final HttpExchange exchange) {
+        final String lastEventId = exchange.getRequestHeaders().getFirst("Last-Event-ID");
+        if (lastEventId != null) {
+            try {
+                final long version = Long.parseLong(lastEventId.trim());
+                return version <= source.version() ? version : -1;
+            } catch (final NumberFormatException e) {
+                // not one of ours, send the current summary
+            }
+        }
+        return -1;
+    }
+
+    /** @return true if the board moved past {@code version} within {@link #HEARTBEAT_INTERVAL} */
+    private boolean awaitChange(final long version) throws InterruptedException {
+        long remaining = HEARTBEAT_INTERVAL.toNanos();
+        lock.lock();
+        try {
+            // registered before the version check, so a writer bumping the version afterwards sees us and signals
+            waiting++;
+            while (source.version() <= version && !closed) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = changed.awaitNanos(remaining);
+            }
+            return true;
+        } finally {
+            waiting--;
+            lock.unlock();
+        }
+    }
+
+    /** Change listener: wakes waiting streams; writers skip the lock when no stream is waiting. */
+    private void signalChange() {
+        if (waiting > 0) {
+            lock.lock();
+            try {
+                changed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.hanabezdrob.scoreboard.http;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Serialized summary of the latest board version. Requests for a version that is already cached share its bytes;
+ * the first request after a change encodes it while concurrent ones wait, so each version is encoded once.
+ */
+final class SummaryCache {
+    private static final byte[] EVENT_PREFIX = "event: summary\ndata: ".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] EVENT_SUFFIX = "\n\n".getBytes(StandardCharsets.US_ASCII);
+
+    private final SummarySource source;
+    private final LongAdder encodings = new LongAdder();
+    private volatile Payload current;
+
+    SummaryCache(final SummarySource source) {
+        this.source = source;
+    }
+
+    /** @return payload of the current board version */
+    Payload current() {
+        final long version = source.version();
+        final Payload cached = current;
+        if (cached != null && cached.version() >= version) {
+            return cached;
+        }
+        synchronized (this) {
+            final Payload latest = current;
+            if (latest != null && latest.version() >= version) {
+                return latest;
+            }
+            // The version is read before the summary, so the bytes are never older than the ETag they are sent with.
+            final Payload fresh = encode(version);
+            current = fresh;
+            return fresh;
+        }
+    }
+
+    /** @return number of summaries encoded so far */
+    long encodings() {
+        return encodings.sum();
+    }
+
+    private Payload encode(final long version) {
+        encodings.increment();
+        final byte[] json = SummaryJson.encode(version, source.summary());
+        final byte[] id = ("id: " + version + "\n").getBytes(StandardCharsets.US_ASCII);
+        final byte[] event = new byte[id.length + EVENT_PREFIX.length + json.length + EVENT_SUFFIX.length];
+        int offset = 0;
+        for (final byte[] part : new byte[][]{id, EVENT_PREFIX, json, EVENT_SUFFIX}) {
+            System.arraycopy(part, 0, event, offset, part.length);
+            offset += part.length;
+        }
+        return new Payload(version, "\"" + version + "\"", json, event);
+    }
+
+    /**
+     * @param etag  quoted version, the {@code ETag} of {@code json}
+     * @param event {@code json} framed as a server-sent event with the version as its id
+     */
+    record Payload(long version, String etag, byte[] json, byte[] event) {
+    }
+}
@@ -0,0 +1,61 @@
+package com.hanabezdrob.scoreboard.http;
+
+import com.hanabezdrob.scoreboard.Match;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static java.lang.String.format;
+
+/**
+ * Compact single-line JSON encoding of a summary:
+ * <pre>{"version":7,"matches":[{"homeTeam":"Mexico","awayTeam":"Canada","homeScore":0,"awayScore":5,
+ * "startTime":"2024-06-14T19:00:00Z"}]}</pre>
+ * The output never contains a line break, so it can be sent as a single server-sent event data line.
+ */
+public final class SummaryJson {
+    private SummaryJson() {
+    }
+
+    /** @return UTF-8 JSON of {@code summary} at {@code version} */
+    public static byte[] encode(final long version, final List<Match> summary) {
+        final StringBuilder json = new StringBuilder(32 + summary.size() * 112);
+        json.append("{\"version\":").append(version).append(",\"matches\":[");
+        for (int i = 0; i < summary.size(); i++) {
+            final Match match = summary.get(i);
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"homeTeam\":");
+            appendString(json, match.homeTeam());
+            json.append(",\"awayTeam\":");
+            appendString(json, match.awayTeam());
+            json.append(",\"homeScore\":").append(match.getHomeScore())
+                    .append(",\"awayScore\":").append(match.getAwayScore())
+                    .append(",\"startTime\":\"").append(match.startTime()).append("\"}");
+        }
+        return json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void appendString(final StringBuilder json, final String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        json.append('"');
+    }
+}
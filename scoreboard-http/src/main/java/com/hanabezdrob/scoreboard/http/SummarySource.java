@@ -0,0 +1,53 @@
+package com.hanabezdrob.scoreboard.http;
+
+import com.hanabezdrob.scoreboard.ConcurrentScoreboard;
+import com.hanabezdrob.scoreboard.Match;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Board served by {@link ScoreboardHttpServer}. The read methods are called from request threads, so the board
+ * behind them must be safe to read concurrently with its writers.
+ */
+public interface SummarySource {
+    /**
+     * @return version that changes whenever the summary may have changed
+     */
+    long version();
+
+    /**
+     * @return live matches in summary order, at least as new as a {@link #version()} read just before
+     */
+    List<Match> summary();
+
+    /** Registers {@code onChange} to run, on the writing thread, after every change that moves {@link #version()}. */
+    void addChangeListener(Runnable onChange);
+
+    void removeChangeListener(Runnable onChange);
+
+    static SummarySource of(final ConcurrentScoreboard scoreboard) {
+        Objects.requireNonNull(scoreboard, "Scoreboard must not be null");
+        return new SummarySource() {
+            @Override
+            public long version() {
+                return scoreboard.getVersion();
+            }
+
+            @Override
+            public List<Match> summary() {
+                return scoreboard.getSummary();
+            }
+
+            @Override
+            public void addChangeListener(final Runnable onChange) {
+                scoreboard.addChangeListener(onChange);
+            }
+
+            @Override
+            public void removeChangeListener(final Runnable onChange) {
+                scoreboard.removeChangeListener(onChange);
+            }
+        };
+    }
+}
@@ -0,0 +1,180 @@
+package com.hanabezdrob.scoreboard.http;
+
+import com.hanabezdrob.scoreboard.ConcurrentScoreboard;
+import com.hanabezdrob.scoreboard.Match;
+import com.hanabezdrob.scoreboard.Score;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScoreboardHttpServerTest {
+    private final HttpClient client = HttpClient.newHttpClient();
+    private ConcurrentScoreboard scoreboard;
+    private ScoreboardHttpServer server;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        scoreboard = new ConcurrentScoreboard();
+        server = ScoreboardHttpServer.start(SummarySource.of(scoreboard),
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        server.close();
+    }
+
+    @Test
+    void summary_returnsJsonWithVersionEtag() throws Exception {
+        scoreboard.startMatch("Mexico", "Canada");
+
+        final HttpResponse<String> response = get(ScoreboardHttpServer.SUMMARY_PATH, null);
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Type")).hasValue("application/json");
+        assertThat(response.headers().firstValue("ETag")).hasValue("\"" + scoreboard.getVersion() + "\"");
+        assertThat(response.body())
+                .startsWith("{\"version\":" + scoreboard.getVersion() + ",\"matches\":[{\"homeTeam\":\"Mexico\"")
+                .contains("\"homeScore\":0,\"awayScore\":0");
+    }
+
+    @Test
+    void summary_matchingIfNoneMatch_returnsNotModifiedUntilBoardChanges() throws Exception {
+        final Match match = scoreboard.startMatch("Mexico", "Canada");
+        final String etag = get(ScoreboardHttpServer.SUMMARY_PATH, null).headers().firstValue("ETag").orElseThrow();
+
+        assertThat(get(ScoreboardHttpServer.SUMMARY_PATH, etag).statusCode()).isEqualTo(304);
+
+        scoreboard.updateMatchScore(match, new Score(0, 1));
+        final HttpResponse<String> changed = get(ScoreboardHttpServer.SUMMARY_PATH, etag);
+        assertThat(changed.statusCode()).isEqualTo(200);
+        assertThat(changed.headers().firstValue("ETag")).isNotEqualTo(etag);
+        assertThat(changed.body()).contains("\"homeScore\":0,\"awayScore\":1");
+    }
+
+    @Test
+    void summary_isEncodedOncePerVersion() throws Exception {
+        scoreboard.startMatch("Mexico", "Canada");
+
+        for (int i = 0; i < 20; i++) {
+            get(ScoreboardHttpServer.SUMMARY_PATH, null);
+        }
+
+        assertThat(server.encodings()).isEqualTo(1);
+    }
+
+    @Test
+    void summary_otherPathOrMethod_isRejected() throws Exception {
+        assertThat(get("/summary/other", null).statusCode()).isEqualTo(404);
+        final HttpResponse<String> post = client.send(
+                HttpRequest.newBuilder(uri(ScoreboardHttpServer.SUMMARY_PATH))
+                        .POST(HttpRequest.BodyPublishers.noBody()).build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertThat(post.statusCode()).isEqualTo(405);
+    }
+
+    @Test
+    void events_pushSummaryOnEveryChange() throws Exception {
+        final Match match = scoreboard.startMatch("Mexico", "Canada");
+        final HttpResponse<InputStream> response = client.send(
+                HttpRequest.newBuilder(uri(ScoreboardHttpServer.EVENTS_PATH)).build(),
+                HttpResponse.BodyHandlers.ofInputStream());
+        assertThat(response.headers().firstValue("Content-Type")).hasValue("text/event-stream");
+
+        try (BufferedReader events = new BufferedReader(
+                new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+            assertThat(nextEvent(events)).first().isEqualTo("id: " + scoreboard.getVersion());
+
+            scoreboard.updateMatchScore(match, new Score(1, 0));
+            final List<String> update = nextEvent(events);
+            assertThat(update).containsExactly("id: " + scoreboard.getVersion(), "event: summary",
+                    "data: " + new String(SummaryJson.encode(scoreboard.getVersion(), scoreboard.getSummary()),
+                            StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void close_detachesChangeListenerFromSource() throws Exception {
+        final List<Runnable> listeners = new ArrayList<>();
+        final SummarySource board = SummarySource.of(scoreboard);
+        final SummarySource source = new SummarySource() {
+            @Override
+            public long version() {
+                return board.version();
+            }
+
+            @Override
+            public List<Match> summary() {
+                return board.summary();
+            }
+
+            @Override
+            public void addChangeListener(final Runnable onChange) {
+                listeners.add(onChange);
+            }
+
+            @Override
+            public void removeChangeListener(final Runnable onChange) {
+                listeners.remove(onChange);
+            }
+        };
+
+        final ScoreboardHttpServer other = ScoreboardHttpServer.start(source,
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        assertThat(listeners).hasSize(1);
+        other.close();
+        assertThat(listeners).isEmpty();
+    }
+
+    @Test
+    void encode_escapesTeamNames() {
+        final Match match = new Match("Quote \" Team", "Back\\slash\nTeam", new Score(2, 1),
+                Instant.parse("2024-06-14T19:00:00Z"));
+
+        assertThat(new String(SummaryJson.encode(3, List.of(match)), StandardCharsets.UTF_8)).isEqualTo(
+                "{\"version\":3,\"matches\":[{\"homeTeam\":\"Quote \\\" Team\",\"awayTeam\":\"Back\\\\slash\\nTeam\","
+                        + "\"homeScore\":2,\"awayScore\":1,\"startTime\":\"2024-06-14T19:00:00Z\"}]}");
+    }
+
+    private HttpResponse<String> get(final String path, final String etag) throws Exception {
+        final HttpRequest.Builder request = HttpRequest.newBuilder(uri(path));
+        if (etag != null) {
+            request.header("If-None-Match", etag);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(final String path) {
+        return URI.create("http://localhost:" + server.getAddress().getPort() + path);
+    }
+
+    /** Reads lines up to the blank line ending the next event, skipping heartbeats. */
+    private static List<String> nextEvent(final BufferedReader events) throws Exception {
+        while (true) {
+            final List<String> lines = new ArrayList<>();
+            String line;
+            while ((line = events.readLine()) != null && !line.isEmpty()) {
+                lines.add(line);
+            }
+            if (!lines.isEmpty() && !lines.get(0).startsWith(":")) {
+                return lines;
+            }
+        }
+    }
+}
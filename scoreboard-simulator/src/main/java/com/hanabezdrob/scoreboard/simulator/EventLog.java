@@ -0,0 +1,69 @@
+package com.hanabezdrob.scoreboard.simulator;
+
+import com.hanabezdrob.scoreboard.Score;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.lang.String.format;
+
+/**
+ * Recorded simulated day: the events that were played and the checksum of the board states they produced, so a
+ * replay against a later build can be compared with the recording.
+ *
+ * <p>Stored as text: a {@code # scoreboard-simulator v1 checksum=<hex>} header, then one
+ * {@code atMillis,TYPE,match,home,away} line per event.</p>
+ */
+public record EventLog(List<SimulatedEvent> events, long checksum) {
+    private static final String HEADER = "# scoreboard-simulator v1 checksum=";
+
+    public EventLog {
+        events = List.copyOf(events);
+    }
+
+    public void write(final Path file) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write(HEADER + Long.toHexString(checksum));
+            out.newLine();
+            for (final SimulatedEvent event : events) {
+                out.write(format("%d,%s,%d,%d,%d", event.atMillis(), event.type(), event.match(),
+                        event.score().home(), event.score().away()));
+                out.newLine();
+            }
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code file} is not an event log
+     */
+    public static EventLog read(final Path file) throws IOException {
+        try (BufferedReader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            final String header = in.readLine();
+            if (header == null || !header.startsWith(HEADER)) {
+                throw new IllegalArgumentException(format("%s is not a simulator event log", file));
+            }
+            final long checksum = Long.parseUnsignedLong(header.substring(HEADER.length()), 16);
+            final List<SimulatedEvent> events = new ArrayList<>();
+            String line;
+            int lineNumber = 1;
+            while ((line = in.readLine()) != null) {
+                lineNumber++;
+                final String[] fields = line.split(",");
+                try {
+                    events.add(new SimulatedEvent(Long.parseLong(fields[0]), SimulatedEvent.Type.valueOf(fields[1]),
+                            Integer.parseInt(fields[2]),
+                            new Score(Integer.parseInt(fields[3]), Integer.parseInt(fields[4]))));
+                } catch (final RuntimeException e) {
+                    throw new IllegalArgumentException(format("Malformed event on line %d: %s", lineNumber, line), e);
+                }
+            }
+            return new EventLog(events, checksum);
+        }
+    }
+}
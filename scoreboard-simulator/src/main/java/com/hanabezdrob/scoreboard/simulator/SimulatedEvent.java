@@ -0,0 +1,24 @@
+package com.hanabezdrob.scoreboard.simulator;
+
+import com.hanabezdrob.scoreboard.Score;
+
+/**
+ * One board write of a simulated day.
+ *
+ * @param atMillis simulated time in epoch milliseconds
+ * @param match    index of the match in the day, {@code 0..matches-1}
+ * @param score    score after the write; 0–0 for a start and the final score for a finish
+ */
+public record SimulatedEvent(long atMillis, Type type, int match, Score score) {
+    public enum Type {
+        START, SCORE, FINISH
+    }
+
+    static String homeTeam(final int match) {
+        return "Team " + 2 * match;
+    }
+
+    static String awayTeam(final int match) {
+        return "Team " + (2 * match + 1);
+    }
+}
@@ -0,0 +1,46 @@
+package com.hanabezdrob.scoreboard.simulator;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+/** Clock showing simulated time, moved forward by the simulator before each event, so start times are replayable. */
+final class SimulationClock extends Clock {
+    /** Shared by every zone view of this clock. */
+    private final AtomicReference<Instant> now;
+    private final ZoneId zone;
+
+    SimulationClock(final Instant start) {
+        this(new AtomicReference<>(start), ZoneOffset.UTC);
+    }
+
+    private SimulationClock(final AtomicReference<Instant> now, final ZoneId zone) {
+        this.now = now;
+        this.zone = zone;
+    }
+
+    /** Moves this clock and every zone view of it to {@code epochMillis}. */
+    void set(final long epochMillis) {
+        now.set(Instant.ofEpochMilli(epochMillis));
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /** @return view of the same simulated time in {@code zone} */
+    @Override
+    public Clock withZone(final ZoneId zone) {
+        Objects.requireNonNull(zone, "Zone must not be null");
+        return zone.equals(this.zone) ? this : new SimulationClock(now, zone);
+    }
+
+    @Override
+    public Instant instant() {
+        return now.get();
+    }
+}
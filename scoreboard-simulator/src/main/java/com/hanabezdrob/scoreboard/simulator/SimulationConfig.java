@@ -0,0 +1,46 @@
+package com.hanabezdrob.scoreboard.simulator;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Parameters of a simulated tournament day.
+ *
+ * @param seed           seed of the schedule; the same seed always produces the same events
+ * @param matches        number of matches played
+ * @param dayStart       simulated time of the first possible kickoff
+ * @param kickoffSpread  kickoffs are spread uniformly over this window after {@code dayStart}
+ * @param matchDuration  simulated time from kickoff to final whistle
+ * @param goalsPerMatch  mean number of goals per match; goals arrive as a Poisson process
+ * @param readers        number of threads reading the summary while the day is played
+ * @param readsPerSecond reads per second of each reader, {@code 0} to read as fast as possible
+ * @param speed          simulated seconds per real second, {@code 0} to play events as fast as possible
+ */
+public record SimulationConfig(long seed, int matches, Instant dayStart, Duration kickoffSpread,
+                               Duration matchDuration, double goalsPerMatch, int readers, double readsPerSecond,
+                               double speed) {
+    public SimulationConfig {
+        Objects.requireNonNull(dayStart, "Day start must not be null");
+        Objects.requireNonNull(kickoffSpread, "Kickoff spread must not be null");
+        Objects.requireNonNull(matchDuration, "Match duration must not be null");
+        if (matches < 0 || readers < 0) {
+            throw new IllegalArgumentException("Match and reader counts must not be negative");
+        }
+        if (kickoffSpread.isNegative() || matchDuration.isNegative() || matchDuration.isZero()) {
+            throw new IllegalArgumentException("Kickoff spread must not be negative and match duration positive");
+        }
+        if (!(goalsPerMatch >= 0) || !(readsPerSecond >= 0) || !(speed >= 0)) {
+            throw new IllegalArgumentException("Rates must not be negative");
+        }
+    }
+
+    /**
+     * @return seed 42, 2 000 matches kicking off over 12 hours, 105 minutes per match, 2.7 goals per match and
+     * 8 unthrottled readers, played as fast as possible
+     */
+    public static SimulationConfig defaults() {
+        return new SimulationConfig(42, 2_000, Instant.parse("2026-06-11T10:00:00Z"), Duration.ofHours(12),
+                Duration.ofMinutes(105), 2.7, 8, 0, 0);
+    }
+}
@@ -0,0 +1,48 @@
+package com.hanabezdrob.scoreboard.simulator;
+
+import com.hanabezdrob.scoreboard.ScoreboardMetrics;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Outcome of a simulated day.
+ *
+ * @param events         number of events played
+ * @param rejectedWrites events the board rejected; a generated day has none
+ * @param elapsed        real time the day took
+ * @param operations     per-operation statistics, for the operations that ran
+ * @param checksum       digest of every write result and of the summary at regular checkpoints; equal for runs of
+ *                       the same events unless the board behaves differently
+ */
+public record SimulationReport(int events, long rejectedWrites, Duration elapsed,
+                               Map<ScoreboardMetrics.Operation, OperationStats> operations, long checksum) {
+    public SimulationReport {
+        operations = Map.copyOf(operations);
+    }
+
+    /** Prints a table of throughput, latency percentiles in microseconds and allocation per operation. */
+    public void print(final PrintStream out) {
+        out.printf("%d events, %d rejected, %.2f s, checksum %016x%n", events, rejectedWrites,
+                elapsed.toNanos() / 1e9, checksum);
+        out.printf("%-14s %10s %12s %9s %9s %9s %9s %10s%n",
+                "operation", "count", "ops/s", "p50 us", "p99 us", "p99.9 us", "max us", "bytes/op");
+        for (final ScoreboardMetrics.Operation operation : ScoreboardMetrics.Operation.values()) {
+            final OperationStats stats = operations.get(operation);
+            if (stats != null) {
+                out.printf("%-14s %10d %12.0f %9.1f %9.1f %9.1f %9.1f %10.0f%n", operation, stats.count(),
+                        stats.perSecond(), stats.p50Nanos() / 1e3, stats.p99Nanos() / 1e3, stats.p999Nanos() / 1e3,
+                        stats.maxNanos() / 1e3, stats.bytesPerOperation());
+            }
+        }
+    }
+
+    /**
+     * Throughput, latency and allocation of one operation. Latencies are measured inside the board, allocation
+     * around each call on the calling thread.
+     */
+    public record OperationStats(long count, double perSecond, long p50Nanos, long p99Nanos, long p999Nanos,
+                                 long maxNanos, double bytesPerOperation) {
+    }
+}
@@ -0,0 +1,256 @@
+package com.hanabezdrob.scoreboard.simulator;
+
+import com.hanabezdrob.scoreboard.ConcurrentScoreboard;
+import com.hanabezdrob.scoreboard.FootballMatchValidator;
+import com.hanabezdrob.scoreboard.LatencyHistogram;
+import com.hanabezdrob.scoreboard.Match;
+import com.hanabezdrob.scoreboard.RecordingScoreboardMetrics;
+import com.hanabezdrob.scoreboard.ScoreboardMetrics;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.lang.String.format;
+
+/**
+ * Plays a simulated tournament day through a {@link ConcurrentScoreboard}. One writer applies the events in order
+ * while {@link SimulationConfig#readers()} threads read the summary, at real time scaled by
+ * {@link SimulationConfig#speed()} or as fast as possible. The board's clock follows simulated time, so a run is
+ * fully determined by its events and its checksum can be compared across builds.
+ *
+ * <pre>java -cp scoreboard/target/classes:scoreboard-simulator/target/classes \
+ *     com.hanabezdrob.scoreboard.simulator.Simulator [seed=42] [matches=2000] [readers=8] [readsPerSecond=0] \
+ *     [speed=0] [goalsPerMatch=2.7] [record=day.log | replay=day.log]</pre>
+ */
+public final class Simulator {
+    /** The writer folds the full summary into the checksum every this many events. */
+    static final int CHECKPOINT_INTERVAL = 1024;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final SimulationConfig config;
+
+    public Simulator(final SimulationConfig config) {
+        this.config = config;
+    }
+
+    /** Generates the day from the configured seed and plays it. */
+    public SimulationReport run() throws InterruptedException {
+        return run(TournamentGenerator.generate(config));
+    }
+
+    /** Plays {@code events}, for example those of a recorded {@link EventLog}. */
+    public SimulationReport run(final List<SimulatedEvent> events) throws InterruptedException {
+        final SimulationClock clock = new SimulationClock(config.dayStart());
+        final RecordingScoreboardMetrics metrics = new RecordingScoreboardMetrics();
+        final ConcurrentScoreboard scoreboard =
+                new ConcurrentScoreboard(new FootballMatchValidator(metrics), metrics, clock);
+        final Map<ScoreboardMetrics.Operation, LongAdder> allocated = new EnumMap<>(ScoreboardMetrics.Operation.class);
+        for (final ScoreboardMetrics.Operation operation : ScoreboardMetrics.Operation.values()) {
+            allocated.put(operation, new LongAdder());
+        }
+
+        final Writer writer = new Writer(scoreboard, allocated);
+        final List<Thread> readers = new ArrayList<>();
+        final long started = System.nanoTime();
+        for (int i = 0; i < config.readers(); i++) {
+            readers.add(Thread.ofPlatform().name("simulator-reader-" + i)
+                    .start(() -> read(scoreboard, writer, allocated.get(ScoreboardMetrics.Operation.GET_SUMMARY))));
+        }
+        try {
+            writer.play(events, clock, started);
+        } finally {
+            writer.done = true;
+            for (final Thread reader : readers) {
+                reader.join();
+            }
+        }
+        final Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        final Map<ScoreboardMetrics.Operation, SimulationReport.OperationStats> operations = new HashMap<>();
+        for (final ScoreboardMetrics.Operation operation : ScoreboardMetrics.Operation.values()) {
+            final LatencyHistogram latency = metrics.latency(operation);
+            final long count = latency.count();
+            if (count > 0) {
+                operations.put(operation, new SimulationReport.OperationStats(count,
+                        count / (elapsed.toNanos() / 1e9), latency.percentile(50), latency.percentile(99),
+                        latency.percentile(99.9), latency.max(), (double) allocated.get(operation).sum() / count));
+            }
+        }
+        return new SimulationReport(events.size(), writer.rejected, elapsed, operations, writer.checksum);
+    }
+
+    public static void main(final String[] args) throws IOException, InterruptedException {
+        final Map<String, String> options = new HashMap<>();
+        for (final String arg : args) {
+            final int separator = arg.indexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Arguments must be key=value, got " + arg);
+            }
+            options.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+        final SimulationConfig defaults = SimulationConfig.defaults();
+        final SimulationConfig config = new SimulationConfig(
+                Long.parseLong(options.getOrDefault("seed", String.valueOf(defaults.seed()))),
+                Integer.parseInt(options.getOrDefault("matches", String.valueOf(defaults.matches()))),
+                defaults.dayStart(), defaults.kickoffSpread(), defaults.matchDuration(),
+                Double.parseDouble(options.getOrDefault("goalsPerMatch", String.valueOf(defaults.goalsPerMatch()))),
+                Integer.parseInt(options.getOrDefault("readers", String.valueOf(defaults.readers()))),
+                Double.parseDouble(options.getOrDefault("readsPerSecond", String.valueOf(defaults.readsPerSecond()))),
+                Double.parseDouble(options.getOrDefault("speed", String.valueOf(defaults.speed()))));
+        final Simulator simulator = new Simulator(config);
+
+        if (options.containsKey("replay")) {
+            final EventLog log = EventLog.read(Path.of(options.get("replay")));
+            final SimulationReport report = simulator.run(log.events());
+            report.print(System.out);
+            System.out.println(report.checksum() == log.checksum()
+                    ? "replay matches the recording"
+                    : format("replay differs from the recording (checksum %016x)", log.checksum()));
+            return;
+        }
+
+        final List<SimulatedEvent> events = TournamentGenerator.generate(config);
+        final SimulationReport report = simulator.run(events);
+        report.print(System.out);
+        if (options.containsKey("record")) {
+            new EventLog(events, report.checksum()).write(Path.of(options.get("record")));
+        }
+    }
+
+    private void read(final ConcurrentScoreboard scoreboard, final Writer writer, final LongAdder allocated) {
+        final long interval = config.readsPerSecond() == 0 ? 0 : (long) (1e9 / config.readsPerSecond());
+        long next = System.nanoTime();
+        long bytes = 0;
+        while (!writer.done) {
+            final long before = THREADS.getCurrentThreadAllocatedBytes();
+            scoreboard.getSummary();
+            bytes += THREADS.getCurrentThreadAllocatedBytes() - before;
+            if (interval > 0) {
+                next += interval;
+                final long sleep = next - System.nanoTime();
+                if (sleep > 0) {
+                    try {
+                        Thread.sleep(Duration.ofNanos(sleep));
+                    } catch (final InterruptedException e) {
+                        break;
+                    }
+                }
+            }
+        }
+        allocated.add(bytes);
+    }
+
+    /** Applies the events on the calling thread and folds every result into the checksum. */
+    private final class Writer {
+        private final ConcurrentScoreboard scoreboard;
+        private final Map<ScoreboardMetrics.Operation, LongAdder> allocated;
+        private final long[] bytes = new long[ScoreboardMetrics.Operation.values().length];
+        private volatile boolean done;
+        private long rejected;
+        private long checksum = 1;
+
+        private Writer(final ConcurrentScoreboard scoreboard,
+                       final Map<ScoreboardMetrics.Operation, LongAdder> allocated) {
+            this.scoreboard = scoreboard;
+            this.allocated = allocated;
+        }
+
+        private void play(final List<SimulatedEvent> events, final SimulationClock clock, final long started)
+                throws InterruptedException {
+            final Match[] live = new Match[events.stream().mapToInt(SimulatedEvent::match).max().orElse(-1) + 1];
+            final long firstMillis = events.isEmpty() ? 0 : events.getFirst().atMillis();
+            for (int i = 0; i < events.size(); i++) {
+                final SimulatedEvent event = events.get(i);
+                if (config.speed() > 0) {
+                    final long due = started + (long) ((event.atMillis() - firstMillis) * 1e6 / config.speed());
+                    final long sleep = due - System.nanoTime();
+                    if (sleep > 0) {
+                        Thread.sleep(Duration.ofNanos(sleep));
+                    }
+                }
+                clock.set(event.atMillis());
+                apply(event, live);
+                if ((i + 1) % CHECKPOINT_INTERVAL == 0) {
+                    checkpoint();
+                }
+            }
+            for (int i = 0; i < bytes.length; i++) {
+                allocated.get(ScoreboardMetrics.Operation.values()[i]).add(bytes[i]);
+            }
+        }
+
+        private void apply(final SimulatedEvent event, final Match[] live) {
+            final int match = event.match();
+            if (event.type() != SimulatedEvent.Type.START && live[match] == null) {
+                reject(event);
+                return;
+            }
+            final long before = THREADS.getCurrentThreadAllocatedBytes();
+            final ScoreboardMetrics.Operation operation;
+            try {
+                switch (event.type()) {
+                    case START -> {
+                        operation = ScoreboardMetrics.Operation.START_MATCH;
+                        live[match] = scoreboard.startMatch(SimulatedEvent.homeTeam(match),
+                                SimulatedEvent.awayTeam(match));
+                    }
+                    case SCORE -> {
+                        operation = ScoreboardMetrics.Operation.UPDATE_SCORE;
+                        live[match] = scoreboard.updateMatchScore(live[match], event.score());
+                    }
+                    default -> {
+                        operation = ScoreboardMetrics.Operation.FINISH_MATCH;
+                        scoreboard.finishMatch(live[match]);
+                    }
+                }
+            } catch (final IllegalArgumentException | IllegalStateException e) {
+                reject(event);
+                return;
+            }
+            bytes[operation.ordinal()] += THREADS.getCurrentThreadAllocatedBytes() - before;
+            fold(live[match]);
+            if (operation == ScoreboardMetrics.Operation.FINISH_MATCH) {
+                live[match] = null;
+            }
+        }
+
+        /**
+         * Folds the summary into the checksum. The read counts towards the board's GET_SUMMARY latencies, so its
+         * allocation is sampled too, keeping bytes per operation over the same set of calls.
+         */
+        private void checkpoint() {
+            final long before = THREADS.getCurrentThreadAllocatedBytes();
+            final List<Match> summary = scoreboard.getSummary();
+            final long allocatedBytes = THREADS.getCurrentThreadAllocatedBytes() - before;
+            bytes[ScoreboardMetrics.Operation.GET_SUMMARY.ordinal()] += allocatedBytes;
+            for (final Match match : summary) {
+                fold(match);
+            }
+        }
+
+        private void reject(final SimulatedEvent event) {
+            rejected++;
+            checksum = (checksum * 31 + event.type().ordinal()) * 31 + event.match();
+        }
+
+        private void fold(final Match match) {
+            long hash = checksum;
+            hash = hash * 31 + match.homeTeam().hashCode();
+            hash = hash * 31 + match.awayTeam().hashCode();
+            hash = hash * 31 + match.getHomeScore();
+            hash = hash * 31 + match.getAwayScore();
+            hash = hash * 31 + match.startTime().getEpochSecond();
+            checksum = hash * 31 + match.startTime().getNano();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.hanabezdrob.scoreboard.simulator;
+
+import com.hanabezdrob.scoreboard.Score;
+import com.hanabezdrob.scoreboard.Scoreboard;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Builds the schedule of a simulated day from a {@link SimulationConfig}. Kickoffs are uniform over the kickoff
+ * window, and goals arrive with exponential gaps, which makes the goals per match Poisson-distributed. Each goal
+ * is its own update, so no update exceeds {@link Scoreboard#MAX_DELTA}. A team stops scoring at
+ * {@link Scoreboard#MAX_SCORE}. {@link Random} is specified bit for bit, so a seed gives the same schedule on
+ * every JVM.
+ */
+public final class TournamentGenerator {
+    private static final Comparator<SimulatedEvent> TIME_ORDER = Comparator.comparingLong(SimulatedEvent::atMillis);
+
+    private TournamentGenerator() {
+    }
+
+    /** @return every start, goal and finish of the day in time order; ties keep match order */
+    public static List<SimulatedEvent> generate(final SimulationConfig config) {
+        final Random random = new Random(config.seed());
+        final long dayStart = config.dayStart().toEpochMilli();
+        final long spread = config.kickoffSpread().toMillis();
+        final long duration = config.matchDuration().toMillis();
+        final double goalsPerMilli = config.goalsPerMatch() / duration;
+        final List<SimulatedEvent> events = new ArrayList<>();
+
+        for (int match = 0; match < config.matches(); match++) {
+            final long kickoff = dayStart + (long) (random.nextDouble() * spread);
+            events.add(new SimulatedEvent(kickoff, SimulatedEvent.Type.START, match, new Score(0, 0)));
+
+            int home = 0;
+            int away = 0;
+            double elapsed = nextGap(random, goalsPerMilli);
+            while (elapsed < duration && (home < Scoreboard.MAX_SCORE || away < Scoreboard.MAX_SCORE)) {
+                if (away == Scoreboard.MAX_SCORE || home < Scoreboard.MAX_SCORE && random.nextBoolean()) {
+                    home++;
+                } else {
+                    away++;
+                }
+                events.add(new SimulatedEvent(kickoff + (long) elapsed, SimulatedEvent.Type.SCORE, match,
+                        new Score(home, away)));
+                elapsed += nextGap(random, goalsPerMilli);
+            }
+            events.add(new SimulatedEvent(kickoff + duration, SimulatedEvent.Type.FINISH, match,
+                    new Score(home, away)));
+        }
+        events.sort(TIME_ORDER);
+        return events;
+    }
+
+    private static double nextGap(final Random random, final double ratePerMilli) {
+        return ratePerMilli == 0 ? Double.POSITIVE_INFINITY : -Math.log(1 - random.nextDouble()) / ratePerMilli;
+    }
+}
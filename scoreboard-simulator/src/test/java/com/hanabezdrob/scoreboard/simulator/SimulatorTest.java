@@ -0,0 +1,93 @@
+package com.hanabezdrob.scoreboard.simulator;
+
+import com.hanabezdrob.scoreboard.Score;
+import com.hanabezdrob.scoreboard.ScoreboardMetrics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SimulatorTest {
+    private static final SimulationConfig SMALL_DAY = new SimulationConfig(7, 200,
+            Instant.parse("2026-06-11T10:00:00Z"), Duration.ofHours(2), Duration.ofMinutes(105), 4, 2, 0, 0);
+
+    @Test
+    void generate_sameSeed_producesSameValidSchedule() {
+        final List<SimulatedEvent> events = TournamentGenerator.generate(SMALL_DAY);
+
+        assertThat(TournamentGenerator.generate(SMALL_DAY)).isEqualTo(events);
+        assertThat(events).isSortedAccordingTo((a, b) -> Long.compare(a.atMillis(), b.atMillis()));
+        assertThat(events).filteredOn(event -> event.type() == SimulatedEvent.Type.START).hasSize(200);
+        assertThat(events).filteredOn(event -> event.type() == SimulatedEvent.Type.FINISH).hasSize(200);
+        final Score[] scores = new Score[200];
+        for (final SimulatedEvent event : events) {
+            if (event.type() == SimulatedEvent.Type.SCORE) {
+                assertThat(event.score().total()).isEqualTo(scores[event.match()].total() + 1);
+            }
+            scores[event.match()] = event.score();
+        }
+    }
+
+    @Test
+    void run_generatedDay_appliesEveryEventAndReportsEachOperation() throws Exception {
+        final List<SimulatedEvent> events = TournamentGenerator.generate(SMALL_DAY);
+
+        final SimulationReport report = new Simulator(SMALL_DAY).run(events);
+
+        assertThat(report.events()).isEqualTo(events.size());
+        assertThat(report.rejectedWrites()).isZero();
+        assertThat(report.operations().get(ScoreboardMetrics.Operation.START_MATCH).count()).isEqualTo(200);
+        assertThat(report.operations().get(ScoreboardMetrics.Operation.FINISH_MATCH).count()).isEqualTo(200);
+        assertThat(report.operations()).containsKey(ScoreboardMetrics.Operation.GET_SUMMARY);
+    }
+
+    @Test
+    void replay_recordedLog_reproducesChecksum(@TempDir final Path directory) throws Exception {
+        final List<SimulatedEvent> events = TournamentGenerator.generate(SMALL_DAY);
+        final SimulationReport recorded = new Simulator(SMALL_DAY).run(events);
+        final Path file = directory.resolve("day.log");
+        new EventLog(events, recorded.checksum()).write(file);
+
+        final EventLog log = EventLog.read(file);
+        final SimulationReport replayed = new Simulator(SMALL_DAY).run(log.events());
+
+        assertThat(log.events()).isEqualTo(events);
+        assertThat(replayed.checksum()).isEqualTo(log.checksum());
+    }
+
+    @Test
+    void replay_changedEvents_changeChecksum() throws Exception {
+        final List<SimulatedEvent> events = new ArrayList<>(TournamentGenerator.generate(SMALL_DAY));
+        final long original = new Simulator(SMALL_DAY).run(events).checksum();
+        final int firstGoal = events.indexOf(events.stream()
+                .filter(event -> event.type() == SimulatedEvent.Type.SCORE).findFirst().orElseThrow());
+        final SimulatedEvent goal = events.get(firstGoal);
+        events.set(firstGoal, new SimulatedEvent(goal.atMillis(), goal.type(), goal.match(),
+                new Score(goal.score().away(), goal.score().home())));
+
+        assertThat(new Simulator(SMALL_DAY).run(events).checksum()).isNotEqualTo(original);
+    }
+
+    @Test
+    void withZone_sharesSimulatedTime() {
+        final SimulationClock clock = new SimulationClock(Instant.parse("2026-06-11T10:00:00Z"));
+        final Clock berlin = clock.withZone(ZoneId.of("Europe/Berlin"));
+
+        clock.set(Instant.parse("2026-06-11T12:30:00Z").toEpochMilli());
+
+        assertThat(berlin.getZone()).isEqualTo(ZoneId.of("Europe/Berlin"));
+        assertThat(berlin.instant()).isEqualTo(clock.instant());
+        assertThat(LocalTime.now(berlin)).isEqualTo(LocalTime.of(14, 30));
+        assertThat(berlin.withZone(ZoneOffset.UTC).instant()).isEqualTo(clock.instant());
+    }
+}
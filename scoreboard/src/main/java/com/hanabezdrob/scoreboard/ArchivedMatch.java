@@ -0,0 +1,7 @@
+package com.hanabezdrob.scoreboard;
+
+import java.time.Instant;
+
+/** A finished match read back from a {@link MatchArchive}, with the id it had on the board. */
+public record ArchivedMatch(long matchId, Match match, Instant finishedAt) {
+}
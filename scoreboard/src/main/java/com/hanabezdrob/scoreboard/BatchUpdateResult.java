@@ -0,0 +1,32 @@
+package com.hanabezdrob.scoreboard;
+
+import java.util.List;
+
+/**
+ * Outcome of {@link Scoreboard#updateMatchScores}: the updates that were applied and the ones that were rejected.
+ *
+ * @param updated new snapshots of the applied updates, in batch order
+ * @param failures rejected updates with the reason, in batch order
+ */
+public record BatchUpdateResult(List<Match> updated, List<Failure> failures) {
+    public BatchUpdateResult {
+        updated = List.copyOf(updated);
+        failures = List.copyOf(failures);
+    }
+
+    /**
+     * @return {@code true} if at least one update was rejected
+     */
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+
+    /**
+     * A rejected update.
+     *
+     * @param update the update as submitted
+     * @param error the exception a single {@link Scoreboard#updateMatchScore} call would have thrown
+     */
+    public record Failure(ScoreUpdate update, RuntimeException error) {
+    }
+}
@@ -0,0 +1,344 @@
+package com.hanabezdrob.scoreboard;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static java.lang.String.format;
+
+/**
+ * Compact storage mode of {@link Scoreboard} with the same rules and core API, for large multi-league boards.
+ *
+ * <p>Team names are interned to int ids in a {@link TeamRegistry}, and each live match occupies a slot in parallel
+ * primitive arrays: home and away team ids, both scores packed into one int, the start time in epoch microseconds
+ * and the stable match id. Updates touch only those arrays; {@link Match} objects are created only when a caller
+ * reads them, and summaries are sorted over slot indices with primitive comparisons. Start times are kept with
+ * microsecond precision. Not thread-safe.</p>
+ */
+public class CompactScoreboard {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int NO_SLOT = -1;
+    private static final int MAX_STORED_SCORE = 0xFFFF;
+
+    private final MatchValidator validator;
+    private final TeamRegistry teams = new TeamRegistry();
+    private final LiveMatchIndex liveMatchIndex = new TeamIndex();
+
+    private int[] homeTeams = new int[INITIAL_CAPACITY];
+    private int[] awayTeams = new int[INITIAL_CAPACITY];
+    private int[] scores = new int[INITIAL_CAPACITY];
+    private long[] startMicros = new long[INITIAL_CAPACITY];
+    private long[] matchIds = new long[INITIAL_CAPACITY];
+    private int[] freeSlots = new int[INITIAL_CAPACITY];
+    private int[] slotByTeam = new int[INITIAL_CAPACITY];
+    private int freeCount;
+    private int usedSlots;
+    private int liveCount;
+    private long nextMatchId = 1;
+
+    private int[] order = new int[INITIAL_CAPACITY];
+    private int[] mergeBuffer = new int[INITIAL_CAPACITY];
+    private List<Match> summary = List.of();
+    private List<Match> matchesInProgress = List.of();
+
+    public CompactScoreboard() {
+        this(new FootballMatchValidator());
+    }
+
+    public CompactScoreboard(final MatchValidator validator) {
+        this.validator = validator;
+        Arrays.fill(slotByTeam, NO_SLOT);
+    }
+
+    /**
+     * Starts a new 0–0 match. Throws if either team is already playing or has invalid names.
+     *
+     * @throws IllegalStateException if homeTeam or awayTeam already has a match in progress
+     * @throws IllegalArgumentException or NullPointerException for invalid names
+     */
+    public Match startMatch(final String homeTeam, final String awayTeam) {
+        validator.validateNewMatch(homeTeam, awayTeam, liveMatchIndex);
+        final int home = internTeam(homeTeam);
+        final int away = internTeam(awayTeam);
+        final int slot = allocateSlot();
+
+        homeTeams[slot] = home;
+        awayTeams[slot] = away;
+        scores[slot] = 0;
+        startMicros[slot] = ChronoUnit.MICROS.between(Instant.EPOCH, Instant.now());
+        matchIds[slot] = nextMatchId++;
+        slotByTeam[home] = slot;
+        slotByTeam[away] = slot;
+        liveCount++;
+        onBoardChanged();
+
+        return snapshot(slot);
+    }
+
+    /**
+     * Updates the {@code match} score, returning a new Match.
+     *
+     * @throws IllegalArgumentException if match is not found, scores go down,
+     * MAX_SCORE is exceeded, or scores jump by more than MAX_DELTA
+     */
+    public Match updateMatchScore(final Match match, final Score score) {
+        final int slot = lookup(match);
+        if (slot == NO_SLOT) {
+            throw new IllegalArgumentException("Match not found");
+        }
+
+        if (score.equals(match.score())) {
+            return match;
+        }
+
+        validator.validateScoreUpdate(match, score);
+        if (score.home() > MAX_STORED_SCORE || score.away() > MAX_STORED_SCORE) {
+            throw new IllegalArgumentException(format("Score %s exceeds compact storage range", score));
+        }
+
+        scores[slot] = score.home() << 16 | score.away();
+        onBoardChanged();
+
+        return new Match(match.homeTeam(), match.awayTeam(), score, match.startTime());
+    }
+
+    /** Removes the match - does nothing if match is not found. */
+    public void finishMatch(final Match match) {
+        final int slot = lookup(match);
+        if (slot == NO_SLOT) {
+            return;
+        }
+
+        slotByTeam[homeTeams[slot]] = NO_SLOT;
+        slotByTeam[awayTeams[slot]] = NO_SLOT;
+        matchIds[slot] = 0;
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+        liveCount--;
+        onBoardChanged();
+    }
+
+    /**
+     * Sorts live slots by total goals desc, then startTime desc, comparing primitive fields only; the snapshot list
+     * is cached until the board changes.
+     *
+     * @return unmodifiable list of live matches ordered by total goals desc, then startTime desc.
+     */
+    public List<Match> getSummary() {
+        if (summary == null) {
+            final int count = sortLiveSlots(this::compareSummary);
+            summary = snapshots(count);
+        }
+        return summary;
+    }
+
+    /** @return unmodifiable list of at most {@code k} live matches in summary order */
+    public List<Match> getTopMatches(final int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("Number of matches must not be negative");
+        }
+        final List<Match> all = getSummary();
+        return all.subList(0, Math.min(k, all.size()));
+    }
+
+    /** @return unmodifiable list of matches in progress, in start order. */
+    public List<Match> getMatchesInProgress() {
+        if (matchesInProgress == null) {
+            final int count = sortLiveSlots((a, b) -> Long.compare(matchIds[a], matchIds[b]));
+            matchesInProgress = snapshots(count);
+        }
+        return matchesInProgress;
+    }
+
+    /**
+     * @return the stable id assigned to {@code match} when it was started
+     * @throws IllegalArgumentException if match is not found
+     */
+    public long getMatchId(final Match match) {
+        final int slot = lookup(match);
+        if (slot == NO_SLOT) {
+            throw new IllegalArgumentException("Match not found");
+        }
+        return matchIds[slot];
+    }
+
+    /**
+     * Scans the id column; meant for occasional lookups rather than the update path.
+     *
+     * @return the current snapshot of the live match with {@code matchId}, or empty if it is not live.
+     */
+    public Optional<Match> findMatch(final long matchId) {
+        for (int slot = 0; slot < usedSlots; slot++) {
+            if (matchIds[slot] == matchId && matchId != 0) {
+                return Optional.of(snapshot(slot));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /** @return number of live matches */
+    public int size() {
+        return liveCount;
+    }
+
+    /** @return registry of every team name seen by this board */
+    public TeamRegistry getTeamRegistry() {
+        return teams;
+    }
+
+    private int internTeam(final String name) {
+        final int id = teams.intern(name);
+        if (id >= slotByTeam.length) {
+            final int previousLength = slotByTeam.length;
+            slotByTeam = Arrays.copyOf(slotByTeam, Math.max(id + 1, previousLength * 2));
+            Arrays.fill(slotByTeam, previousLength, slotByTeam.length, NO_SLOT);
+        }
+        return id;
+    }
+
+    private int allocateSlot() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (usedSlots == matchIds.length) {
+            final int capacity = usedSlots * 2;
+            homeTeams = Arrays.copyOf(homeTeams, capacity);
+            awayTeams = Arrays.copyOf(awayTeams, capacity);
+            scores = Arrays.copyOf(scores, capacity);
+            startMicros = Arrays.copyOf(startMicros, capacity);
+            matchIds = Arrays.copyOf(matchIds, capacity);
+        }
+        return usedSlots++;
+    }
+
+    /** @return slot holding exactly {@code match}, or {@link #NO_SLOT} for unknown or stale snapshots */
+    private int lookup(final Match match) {
+        if (match == null) {
+            return NO_SLOT;
+        }
+        final int team = teams.find(match.homeTeam());
+        if (team == TeamRegistry.UNKNOWN) {
+            return NO_SLOT;
+        }
+        final int slot = slotByTeam[team];
+        if (slot == NO_SLOT
+                || homeTeams[slot] != team
+                || !teams.name(awayTeams[slot]).equals(match.awayTeam())
+                || scores[slot] != (match.getHomeScore() << 16 | match.getAwayScore())
+                || !startTime(slot).equals(match.startTime())) {
+            return NO_SLOT;
+        }
+        return slot;
+    }
+
+    private Match snapshot(final int slot) {
+        final int score = scores[slot];
+        return new Match(teams.name(homeTeams[slot]), teams.name(awayTeams[slot]),
+                new Score(score >>> 16, score & 0xFFFF), startTime(slot));
+    }
+
+    private Instant startTime(final int slot) {
+        final long micros = startMicros[slot];
+        return Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1_000L);
+    }
+
+    private List<Match> snapshots(final int count) {
+        final Match[] matches = new Match[count];
+        for (int i = 0; i < count; i++) {
+            matches[i] = snapshot(order[i]);
+        }
+        return List.of(matches);
+    }
+
+    private int compareSummary(final int a, final int b) {
+        final int totalA = (scores[a] >>> 16) + (scores[a] & 0xFFFF);
+        final int totalB = (scores[b] >>> 16) + (scores[b] & 0xFFFF);
+        if (totalA != totalB) {
+            return Integer.compare(totalB, totalA);
+        }
+        if (startMicros[a] != startMicros[b]) {
+            return Long.compare(startMicros[b], startMicros[a]);
+        }
+        return Long.compare(matchIds[a], matchIds[b]);
+    }
+
+    /**
+     * Collects the live slots into {@link #order} and merge-sorts them with {@code slotOrder}.
+     *
+     * @return number of live slots
+     */
+    private int sortLiveSlots(final SlotOrder slotOrder) {
+        if (order.length < usedSlots) {
+            order = new int[matchIds.length];
+            mergeBuffer = new int[matchIds.length];
+        }
+        int count = 0;
+        for (int slot = 0; slot < usedSlots; slot++) {
+            if (matchIds[slot] != 0) {
+                order[count++] = slot;
+            }
+        }
+        mergeSort(order, mergeBuffer, 0, count, slotOrder);
+        return count;
+    }
+
+    private static void mergeSort(final int[] slots, final int[] buffer, final int from, final int to,
+                                  final SlotOrder slotOrder) {
+        if (to - from < 2) {
+            return;
+        }
+        final int middle = (from + to) >>> 1;
+        mergeSort(slots, buffer, from, middle, slotOrder);
+        mergeSort(slots, buffer, middle, to, slotOrder);
+        if (slotOrder.compare(slots[middle - 1], slots[middle]) <= 0) {
+            return;
+        }
+
+        System.arraycopy(slots, from, buffer, from, to - from);
+        int left = from;
+        int right = middle;
+        for (int i = from; i < to; i++) {
+            if (right >= to || left < middle && slotOrder.compare(buffer[left], buffer[right]) <= 0) {
+                slots[i] = buffer[left++];
+            } else {
+                slots[i] = buffer[right++];
+            }
+        }
+    }
+
+    private void onBoardChanged() {
+        summary = null;
+        matchesInProgress = null;
+    }
+
+    /** Primitive comparator over slot indices, so sorting never boxes. */
+    @FunctionalInterface
+    private interface SlotOrder {
+        int compare(final int a, final int b);
+    }
+
+    private final class TeamIndex implements LiveMatchIndex {
+        @Override
+        public boolean isPlaying(final String team) {
+            final int id = teams.find(team);
+            return id != TeamRegistry.UNKNOWN && slotByTeam[id] != NO_SLOT;
+        }
+
+        @Override
+        public Optional<Match> findByTeam(final String team) {
+            final int id = teams.find(team);
+            return id == TeamRegistry.UNKNOWN || slotByTeam[id] == NO_SLOT
+                    ? Optional.empty()
+                    : Optional.of(snapshot(slotByTeam[id]));
+        }
+
+        @Override
+        public Iterable<Match> matches() {
+            return getMatchesInProgress();
+        }
+    }
+}
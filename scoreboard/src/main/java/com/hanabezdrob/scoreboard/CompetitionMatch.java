@@ -0,0 +1,10 @@
+package com.hanabezdrob.scoreboard;
+
+/**
+ * A live match together with the competition it belongs to, as returned by cross-competition queries.
+ *
+ * @param competition competition key of the shard holding the match
+ * @param match match snapshot
+ */
+public record CompetitionMatch(String competition, Match match) {
+}
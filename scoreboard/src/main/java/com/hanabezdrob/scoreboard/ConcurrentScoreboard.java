@@ -0,0 +1,552 @@
+package com.hanabezdrob.scoreboard;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+
+/**
+ * Thread-safe counterpart of {@link Scoreboard} with the same API and rules.
+ *
+ * <p>Each live match sits in its own {@link AtomicReference}, so score updates on different matches never
+ * contend: an update validates against the current snapshot and publishes the new one with a single CAS.
+ * Teams are claimed with {@link ConcurrentMap#putIfAbsent}, which keeps the one-live-match-per-team rule
+ * atomic under races regardless of what the validator checked beforehand.</p>
+ *
+ * <p>Writes are striped by match id. A write holds its stripe's lock and bumps the stripe's sequence to odd before
+ * it mutates the board and back to even afterwards, so writers on different stripes share no counter. A reader
+ * copies the board optimistically and retries if any stripe was mid-write or moved meanwhile, so each returned list
+ * is a consistent snapshot of one board state. Readers never take the stripe locks, so they never block writers;
+ * a reader that keeps losing to writes backs off from spinning to yielding to parking while it waits for a quiet
+ * moment. Snapshots are cached per board version.</p>
+ *
+ * <p>Boards built with {@link ScoreboardMetrics} report operation latencies, rejections and the number of live
+ * matches; without them nothing is measured.</p>
+ */
+public class ConcurrentScoreboard {
+    private static final int STRIPES =
+            Integer.highestOneBit(Math.min(64, Math.max(4, Runtime.getRuntime().availableProcessors())) * 2 - 1);
+    /** Keeps each stripe's sequence on its own cache line. */
+    private static final int SEQUENCE_SPACING = 8;
+    private static final int OPTIMISTIC_READ_ATTEMPTS = 16;
+    private static final long MAX_READ_BACKOFF_NANOS = 1_000_000;
+
+    private final MatchValidator validator;
+    private final ScoreboardMetrics metrics;
+    private final boolean instrumented;
+    private final Clock clock;
+    private final ConcurrentNavigableMap<Long, LiveMatch> matchesById = new ConcurrentSkipListMap<>();
+    private final ConcurrentMap<String, LiveMatch> matchesByTeam = new ConcurrentHashMap<>();
+    private final LiveMatchIndex liveMatchIndex = new TeamIndex();
+    private final AtomicLong nextMatchId = new AtomicLong(1);
+    /** Serialise the writers of one stripe; readers never take them. */
+    private final ReentrantLock[] stripeLocks = new ReentrantLock[STRIPES];
+    private final AtomicLongArray stripeSequences = new AtomicLongArray(STRIPES * SEQUENCE_SPACING);
+    private final List<Runnable> changeListeners = new CopyOnWriteArrayList<>();
+    private volatile Snapshot snapshot = new Snapshot(0, List.of(), List.of());
+
+    public ConcurrentScoreboard() {
+        this(new FootballMatchValidator());
+    }
+
+    public ConcurrentScoreboard(final MatchValidator validator) {
+        this(validator, ScoreboardMetrics.NOOP);
+    }
+
+    /** Instrumented board with the default validator, which reports its rejections to {@code metrics} as well. */
+    public ConcurrentScoreboard(final ScoreboardMetrics metrics) {
+        this(new FootballMatchValidator(metrics), metrics);
+    }
+
+    public ConcurrentScoreboard(final MatchValidator validator, final ScoreboardMetrics metrics) {
+        this(validator, metrics, Clock.systemUTC());
+    }
+
+    /** Board whose start times come from {@code clock}, for scheduled lifecycles and tests. */
+    public ConcurrentScoreboard(final Clock clock) {
+        this(new FootballMatchValidator(), ScoreboardMetrics.NOOP, clock);
+    }
+
+    public ConcurrentScoreboard(final MatchValidator validator, final ScoreboardMetrics metrics, final Clock clock) {
+        this.validator = validator;
+        this.metrics = Objects.requireNonNull(metrics, "Metrics must not be null");
+        this.instrumented = metrics != ScoreboardMetrics.NOOP;
+        this.clock = Objects.requireNonNull(clock, "Clock must not be null");
+        for (int i = 0; i < STRIPES; i++) {
+            stripeLocks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Starts a new 0–0 match. Throws if either team is already playing or has invalid names.
+     *
+     * @throws IllegalStateException if homeTeam or awayTeam already has a match in progress
+     * @throws IllegalArgumentException or NullPointerException for invalid names
+     */
+    public Match startMatch(final String homeTeam, final String awayTeam) {
+        final long startNanos = startTiming();
+        try {
+            return start(homeTeam, awayTeam);
+        } finally {
+            stopTiming(ScoreboardMetrics.Operation.START_MATCH, startNanos);
+        }
+    }
+
+    /**
+     * Updates the {@code match} score, returning a new Match.
+     *
+     * @throws IllegalArgumentException if match is not found (including when another thread updated or finished
+     * it first), scores go down, MAX_SCORE is exceeded, or scores jump by more than MAX_DELTA
+     */
+    public Match updateMatchScore(final Match match, final Score score) {
+        final long startNanos = startTiming();
+        try {
+            return update(match, score);
+        } finally {
+            stopTiming(ScoreboardMetrics.Operation.UPDATE_SCORE, startNanos);
+        }
+    }
+
+    /**
+     * Thread-safe counterpart of {@link Scoreboard#ingestScore}. Messages for the same match are serialized on that
+     * match only, so the sequence check and the score swap are atomic; other matches and plain score updates never
+     * wait for the sequence check.
+     *
+     * @return what happened to the message
+     */
+    public IngestResult ingestScore(final long matchId, final long sequence, final Score score) {
+        final long startNanos = startTiming();
+        try {
+            return ingest(matchId, sequence, score);
+        } finally {
+            stopTiming(ScoreboardMetrics.Operation.UPDATE_SCORE, startNanos);
+        }
+    }
+
+    /** Removes the match - does nothing if match is not found. */
+    public void finishMatch(final Match match) {
+        final long startNanos = startTiming();
+        try {
+            finish(match);
+        } finally {
+            stopTiming(ScoreboardMetrics.Operation.FINISH_MATCH, startNanos);
+        }
+    }
+
+    /** @return unmodifiable list of live matches ordered by total goals desc, then startTime desc. */
+    public List<Match> getSummary() {
+        final long startNanos = startTiming();
+        try {
+            return snapshot().summary();
+        } finally {
+            stopTiming(ScoreboardMetrics.Operation.GET_SUMMARY, startNanos);
+        }
+    }
+
+    /**
+     * Top of {@link #getSummary()}: slices the cached summary when it is current, otherwise selects from a
+     * consistent copy of the board with a bounded heap in O(n log k) instead of sorting every match.
+     *
+     * @return unmodifiable list of at most {@code k} live matches in summary order
+     * @throws IllegalArgumentException if {@code k} is negative
+     */
+    public List<Match> getTopMatches(final int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("Number of matches must not be negative");
+        }
+        final Snapshot cached = snapshot;
+        if (cached.version() == stableVersion()) {
+            return cached.summary().subList(0, Math.min(k, cached.summary().size()));
+        }
+        return selectTop(readBoard().matchesInProgress(), k);
+    }
+
+    /** @return unmodifiable list of matches in progress, in start order. */
+    public List<Match> getMatchesInProgress() {
+        return snapshot().matchesInProgress();
+    }
+
+    /**
+     * @return the stable id assigned to {@code match} when it was started
+     * @throws IllegalArgumentException if match is not found
+     */
+    public long getMatchId(final Match match) {
+        final LiveMatch live = lookup(match);
+        if (live == null) {
+            throw new IllegalArgumentException("Match not found");
+        }
+        return live.id;
+    }
+
+    /** @return the current snapshot of the live match with {@code matchId}, or empty if it is not live. */
+    public Optional<Match> findMatch(final long matchId) {
+        final LiveMatch live = matchesById.get(matchId);
+        return live == null ? Optional.empty() : Optional.ofNullable(live.match.get());
+    }
+
+    /** @return board version: the number of completed writes, changes whenever the board changes */
+    public long getVersion() {
+        long completed = 0;
+        for (int i = 0; i < STRIPES; i++) {
+            completed += stripeSequences.get(i * SEQUENCE_SPACING) >>> 1;
+        }
+        return completed;
+    }
+
+    /**
+     * Registers a listener run synchronously, on the writing thread, after every write that changed the board and
+     * therefore {@link #getVersion()}. Listeners on concurrent writers run concurrently and must be quick.
+     */
+    public void addChangeListener(final Runnable listener) {
+        changeListeners.add(Objects.requireNonNull(listener, "Listener must not be null"));
+    }
+
+    public void removeChangeListener(final Runnable listener) {
+        changeListeners.remove(listener);
+    }
+
+    /** @return clock that supplies the start time of new matches */
+    public Clock getClock() {
+        return clock;
+    }
+
+    private Match start(final String homeTeam, final String awayTeam) {
+        validator.validateNewMatch(homeTeam, awayTeam, liveMatchIndex);
+        final LiveMatch live = new LiveMatch(nextMatchId.getAndIncrement(),
+                new Match(homeTeam, awayTeam, new Score(0, 0), clock.instant()));
+
+        claimTeam(homeTeam, live);
+        try {
+            claimTeam(awayTeam, live);
+        } catch (final IllegalStateException e) {
+            matchesByTeam.remove(homeTeam, live);
+            throw e;
+        }
+
+        final int stripe = beginWrite(live.id);
+        try {
+            matchesById.put(live.id, live);
+        } finally {
+            endWrite(stripe);
+        }
+        notifyChange();
+        if (instrumented) {
+            metrics.recordLiveMatchesChange(1);
+        }
+
+        return live.match.get();
+    }
+
+    private Match update(final Match match, final Score score) {
+        final LiveMatch live = lookup(match);
+        if (live == null) {
+            throw matchNotFound();
+        }
+
+        if (score.equals(match.score())) {
+            return match;
+        }
+
+        validator.validateScoreUpdate(match, score);
+
+        final Match current = live.match.get();
+        final Match updated = new Match(match.homeTeam(), match.awayTeam(), score, match.startTime());
+        final int stripe = beginWrite(live.id);
+        try {
+            if (current == null || !current.equals(match) || !live.match.compareAndSet(current, updated)) {
+                throw matchNotFound();
+            }
+        } finally {
+            endWrite(stripe);
+        }
+        notifyChange();
+
+        return updated;
+    }
+
+    private IngestResult ingest(final long matchId, final long sequence, final Score score) {
+        final LiveMatch live = matchesById.get(matchId);
+        if (live == null) {
+            return notFound();
+        }
+
+        synchronized (live) {
+            if (sequence <= live.lastSequence) {
+                return sequence == live.lastSequence ? IngestResult.DUPLICATE : IngestResult.STALE;
+            }
+            while (true) {
+                final Match current = live.match.get();
+                if (current == null) {
+                    return notFound();
+                }
+                if (score.equals(current.score())) {
+                    live.lastSequence = sequence;
+                    return IngestResult.UNCHANGED;
+                }
+                if (!validator.checkScoreUpdate(current, score).isOk()) {
+                    return IngestResult.REJECTED;
+                }
+
+                final Match updated = new Match(current.homeTeam(), current.awayTeam(), score, current.startTime());
+                final boolean swapped;
+                final int stripe = beginWrite(live.id);
+                try {
+                    swapped = live.match.compareAndSet(current, updated);
+                } finally {
+                    endWrite(stripe);
+                }
+                if (swapped) {
+                    live.lastSequence = sequence;
+                    notifyChange();
+                    return IngestResult.APPLIED;
+                }
+                // a plain score update won the race; validate against its snapshot
+            }
+        }
+    }
+
+    private void finish(final Match match) {
+        final LiveMatch live = lookup(match);
+        if (live == null) {
+            return;
+        }
+
+        final Match current = live.match.get();
+        final int stripe = beginWrite(live.id);
+        try {
+            if (current == null || !current.equals(match) || !live.match.compareAndSet(current, null)) {
+                return;
+            }
+            matchesById.remove(live.id);
+        } finally {
+            endWrite(stripe);
+        }
+        notifyChange();
+
+        matchesByTeam.remove(match.homeTeam(), live);
+        matchesByTeam.remove(match.awayTeam(), live);
+        if (instrumented) {
+            metrics.recordLiveMatchesChange(-1);
+        }
+    }
+
+    private void claimTeam(final String team, final LiveMatch live) {
+        if (matchesByTeam.putIfAbsent(team, live) != null) {
+            if (instrumented) {
+                metrics.recordRejection(ValidationResult.TEAM_BUSY);
+            }
+            throw ValidationResult.teamBusy(team);
+        }
+    }
+
+    /** Locks the stripe owning {@code matchId} and marks it mid-write. */
+    private int beginWrite(final long matchId) {
+        final int stripe = (int) (matchId & (STRIPES - 1));
+        stripeLocks[stripe].lock();
+        final int slot = stripe * SEQUENCE_SPACING;
+        stripeSequences.set(slot, stripeSequences.get(slot) + 1);
+        return stripe;
+    }
+
+    private void endWrite(final int stripe) {
+        final int slot = stripe * SEQUENCE_SPACING;
+        stripeSequences.set(slot, stripeSequences.get(slot) + 1);
+        stripeLocks[stripe].unlock();
+    }
+
+    private void notifyChange() {
+        if (!changeListeners.isEmpty()) {
+            for (final Runnable listener : changeListeners) {
+                listener.run();
+            }
+        }
+    }
+
+    /**
+     * Sequences only grow, so an unchanged total of even sequences means no stripe moved between two reads.
+     *
+     * @return number of completed writes, or -1 while any stripe is mid-write
+     */
+    private long stableVersion() {
+        long completed = 0;
+        for (int i = 0; i < STRIPES; i++) {
+            final long sequence = stripeSequences.get(i * SEQUENCE_SPACING);
+            if ((sequence & 1) != 0) {
+                return -1;
+            }
+            completed += sequence >>> 1;
+        }
+        return completed;
+    }
+
+    private long startTiming() {
+        return instrumented ? System.nanoTime() : 0;
+    }
+
+    private void stopTiming(final ScoreboardMetrics.Operation operation, final long startNanos) {
+        if (instrumented) {
+            metrics.recordLatency(operation, System.nanoTime() - startNanos);
+        }
+    }
+
+    private IngestResult notFound() {
+        if (instrumented) {
+            metrics.recordRejection(ValidationResult.NOT_FOUND);
+        }
+        return IngestResult.NOT_FOUND;
+    }
+
+    private IllegalArgumentException matchNotFound() {
+        if (instrumented) {
+            metrics.recordRejection(ValidationResult.NOT_FOUND);
+        }
+        return new IllegalArgumentException("Match not found");
+    }
+
+    /** @return the live entry currently holding {@code match}, or null for unknown or stale snapshots. */
+    private LiveMatch lookup(final Match match) {
+        if (match == null) {
+            return null;
+        }
+        final LiveMatch live = matchesByTeam.get(match.homeTeam());
+        return live != null && match.equals(live.match.get()) ? live : null;
+    }
+
+    private Snapshot snapshot() {
+        final Snapshot cached = snapshot;
+        if (cached.version() == stableVersion()) {
+            return cached;
+        }
+
+        final Snapshot fresh = readBoard();
+        final List<Match> summary = new ArrayList<>(fresh.matchesInProgress());
+        summary.sort(Scoreboard.SUMMARY_ORDER);
+        final Snapshot sorted = new Snapshot(fresh.version(), fresh.matchesInProgress(), List.copyOf(summary));
+        snapshot = sorted;
+        return sorted;
+    }
+
+    /**
+     * Optimistically copies the live matches, retrying while a write is in flight or lands during the copy. Writers
+     * are never held up; see {@link #backOff} for how a reader waits between failed attempts.
+     *
+     * @return consistent board state, without a summary
+     */
+    private Snapshot readBoard() {
+        for (int attempt = 0; ; attempt++) {
+            final long version = stableVersion();
+            if (version >= 0) {
+                final List<Match> inProgress = copyLiveMatches();
+                if (stableVersion() == version) {
+                    return new Snapshot(version, inProgress, null);
+                }
+            }
+            backOff(attempt);
+        }
+    }
+
+    /**
+     * Spins for the first {@link #OPTIMISTIC_READ_ATTEMPTS} failed reads, then yields, then parks for exponentially
+     * longer up to {@link #MAX_READ_BACKOFF_NANOS}, so a reader outpaced by writers stops burning their CPU.
+     */
+    private static void backOff(final int attempt) {
+        if (attempt < OPTIMISTIC_READ_ATTEMPTS) {
+            Thread.onSpinWait();
+        } else if (attempt < 2 * OPTIMISTIC_READ_ATTEMPTS) {
+            Thread.yield();
+        } else {
+            final int doublings = Math.min(attempt - 2 * OPTIMISTIC_READ_ATTEMPTS, 10);
+            LockSupport.parkNanos(Math.min(MAX_READ_BACKOFF_NANOS, 1_000L << doublings));
+        }
+    }
+
+    private List<Match> copyLiveMatches() {
+        final List<Match> inProgress = new ArrayList<>(matchesById.size());
+        for (final LiveMatch live : matchesById.values()) {
+            final Match match = live.match.get();
+            if (match != null) {
+                inProgress.add(match);
+            }
+        }
+        return List.copyOf(inProgress);
+    }
+
+    /**
+     * Bounded-heap selection of the first {@code k} matches in summary order; ties keep start order, as in the
+     * stable sort behind {@link #getSummary()}.
+     */
+    private static List<Match> selectTop(final List<Match> startOrdered, final int k) {
+        if (k == 0 || startOrdered.isEmpty()) {
+            return List.of();
+        }
+
+        final Comparator<Integer> order = (a, b) -> {
+            final int bySummary = Scoreboard.SUMMARY_ORDER.compare(startOrdered.get(a), startOrdered.get(b));
+            return bySummary != 0 ? bySummary : Integer.compare(a, b);
+        };
+        final PriorityQueue<Integer> worstFirst = new PriorityQueue<>(k + 1, order.reversed());
+        for (int i = 0; i < startOrdered.size(); i++) {
+            worstFirst.add(i);
+            if (worstFirst.size() > k) {
+                worstFirst.poll();
+            }
+        }
+
+        final Match[] top = new Match[worstFirst.size()];
+        for (int i = top.length - 1; i >= 0; i--) {
+            top[i] = startOrdered.get(worstFirst.poll());
+        }
+        return List.of(top);
+    }
+
+    /** Immutable board state at a given version; the summary is a stable sort of the start-ordered list. */
+    private record Snapshot(long version, List<Match> matchesInProgress, List<Match> summary) {
+    }
+
+    /**
+     * A live match slot: the id is stable, the snapshot is swapped by CAS and cleared when the match finishes.
+     * {@code lastSequence} is the newest feed sequence accepted by {@link #ingestScore}, guarded by the slot's lock.
+     */
+    private static final class LiveMatch {
+        private final long id;
+        private final AtomicReference<Match> match;
+        private long lastSequence = Long.MIN_VALUE;
+
+        private LiveMatch(final long id, final Match match) {
+            this.id = id;
+            this.match = new AtomicReference<>(match);
+        }
+    }
+
+    private final class TeamIndex implements LiveMatchIndex {
+        @Override
+        public boolean isPlaying(final String team) {
+            return matchesByTeam.containsKey(team);
+        }
+
+        @Override
+        public Optional<Match> findByTeam(final String team) {
+            final LiveMatch live = matchesByTeam.get(team);
+            return live == null ? Optional.empty() : Optional.ofNullable(live.match.get());
+        }
+
+        @Override
+        public Iterable<Match> matches() {
+            return getMatchesInProgress();
+        }
+    }
+}
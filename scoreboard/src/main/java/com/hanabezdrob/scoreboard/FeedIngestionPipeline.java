@@ -0,0 +1,293 @@
+package com.hanabezdrob.scoreboard;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Feeds provider messages into a board through per-match mailboxes and partitioned writers.
+ *
+ * <p>Every {@link ScoreFeed} is read on its own virtual thread. Messages go to a bounded mailbox per match, and a
+ * match with pending messages is queued once on the writer owning its partition (the hash of its {@code matchId}
+ * modulo the number of writers), so a match is only ever written by one writer. A writer drains the whole mailbox
+ * and coalesces it: it applies the newest message the board accepts, skipping the older ones; if the newest is
+ * rejected it falls back to older ones, then retries the newer. A full mailbox holds its feed back until the writer
+ * has drained it; dropping messages instead could leave a gap larger than the validator allows.</p>
+ *
+ * <p>Writers run on virtual threads too, and every wait uses {@link ReentrantLock} conditions or blocking queues,
+ * which never pin a virtual thread's carrier. With one writer any {@link ScoreSink} works, for example a
+ * {@link Scoreboard} that is only touched by the pipeline; more writers need a thread-safe sink such as
+ * {@link ConcurrentScoreboard}.</p>
+ */
+public class FeedIngestionPipeline implements AutoCloseable {
+    public static final int DEFAULT_MAILBOX_CAPACITY = 16;
+
+    private static final Comparator<FeedMessage> SEQUENCE_ORDER = Comparator.comparingLong(FeedMessage::sequence);
+
+    private final ScoreSink sink;
+    private final int mailboxCapacity;
+    private final ConcurrentMap<Long, Mailbox> mailboxes = new ConcurrentHashMap<>();
+    private final List<BlockingQueue<Mailbox>> partitions = new ArrayList<>();
+    private final List<Thread> writers = new ArrayList<>();
+    private final List<ScoreFeed> feeds = new CopyOnWriteArrayList<>();
+    private final List<Thread> feedThreads = new CopyOnWriteArrayList<>();
+    private final ReentrantLock idleLock = new ReentrantLock();
+    private final Condition idle = idleLock.newCondition();
+    private final AtomicLong inFlight = new AtomicLong();
+    private final LongAdder received = new LongAdder();
+    private final LongAdder applied = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder feedFailures = new LongAdder();
+    private volatile boolean closed;
+
+    /** Single-writer pipeline with the default mailbox capacity. */
+    public FeedIngestionPipeline(final ScoreSink sink) {
+        this(sink, 1, DEFAULT_MAILBOX_CAPACITY);
+    }
+
+    /**
+     * @param writers         number of partitioned writers; the sink must be thread-safe if more than one
+     * @param mailboxCapacity pending messages kept per match before feeds wait for the writer
+     */
+    public FeedIngestionPipeline(final ScoreSink sink, final int writers, final int mailboxCapacity) {
+        if (writers < 1) {
+            throw new IllegalArgumentException("Pipeline needs at least one writer");
+        }
+        if (mailboxCapacity < 1) {
+            throw new IllegalArgumentException("Mailbox capacity must be positive");
+        }
+        this.sink = Objects.requireNonNull(sink, "Sink must not be null");
+        this.mailboxCapacity = mailboxCapacity;
+        for (int i = 0; i < writers; i++) {
+            final BlockingQueue<Mailbox> partition = new LinkedBlockingQueue<>();
+            partitions.add(partition);
+            this.writers.add(Thread.ofVirtual().name("scoreboard-writer-" + i).start(() -> write(partition)));
+        }
+    }
+
+    /**
+     * Starts reading {@code feed} on a new virtual thread until it ends, fails or the pipeline is closed.
+     *
+     * @throws IllegalStateException if the pipeline is closed
+     */
+    public void addFeed(final ScoreFeed feed) {
+        Objects.requireNonNull(feed, "Feed must not be null");
+        if (closed) {
+            throw new IllegalStateException("Pipeline is closed");
+        }
+        feeds.add(feed);
+        feedThreads.add(Thread.ofVirtual().name("scoreboard-feed-" + feedThreads.size()).start(() -> read(feed)));
+    }
+
+    /**
+     * Waits until every feed has ended and every received message has been applied or discarded.
+     *
+     * @return false if {@code timeout} elapsed first
+     */
+    public boolean awaitCompletion(final Duration timeout) throws InterruptedException {
+        final long deadline = System.nanoTime() + timeout.toNanos();
+        for (final Thread feedThread : feedThreads) {
+            final long remaining = deadline - System.nanoTime();
+            if (remaining <= 0 || !feedThread.join(Duration.ofNanos(remaining))) {
+                return false;
+            }
+        }
+        idleLock.lock();
+        try {
+            long remaining = deadline - System.nanoTime();
+            while (inFlight.get() > 0) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = idle.awaitNanos(remaining);
+            }
+        } finally {
+            idleLock.unlock();
+        }
+        return true;
+    }
+
+    /** @return counters since the pipeline started */
+    public Stats getStats() {
+        return new Stats(received.sum(), applied.sum(), coalesced.sum(), dropped.sum(), rejected.sum(),
+                feedFailures.sum());
+    }
+
+    /**
+     * Closes every feed and stops the writers; messages still pending are discarded. If the calling thread is
+     * interrupted while waiting for them, it stops waiting and keeps its interrupt status.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (final ScoreFeed feed : feeds) {
+            try {
+                feed.close();
+            } catch (final IOException e) {
+                feedFailures.increment();
+            }
+        }
+        feedThreads.forEach(Thread::interrupt);
+        writers.forEach(Thread::interrupt);
+        try {
+            for (final Thread thread : feedThreads) {
+                thread.join();
+            }
+            for (final Thread writer : writers) {
+                writer.join();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void read(final ScoreFeed feed) {
+        try {
+            FeedMessage message;
+            while (!closed && (message = feed.next()) != null) {
+                received.increment();
+                offer(message);
+            }
+        } catch (final IOException | RuntimeException e) {
+            if (!closed) {
+                feedFailures.increment();
+            }
+        } catch (final InterruptedException e) {
+            // pipeline closed
+        }
+    }
+
+    private void offer(final FeedMessage message) throws InterruptedException {
+        final Mailbox mailbox = mailboxes.computeIfAbsent(message.matchId(), Mailbox::new);
+        final boolean schedule;
+        mailbox.lock.lock();
+        try {
+            while (mailbox.pending.size() == mailboxCapacity) {
+                mailbox.drained.await();
+            }
+            inFlight.incrementAndGet();
+            mailbox.pending.add(message);
+            schedule = !mailbox.scheduled;
+            mailbox.scheduled = true;
+        } finally {
+            mailbox.lock.unlock();
+        }
+        if (schedule) {
+            partitions.get(Math.floorMod(Long.hashCode(message.matchId()), partitions.size())).add(mailbox);
+        }
+    }
+
+    private void write(final BlockingQueue<Mailbox> partition) {
+        try {
+            while (!closed) {
+                final Mailbox mailbox = partition.take();
+                final List<FeedMessage> batch;
+                mailbox.lock.lock();
+                try {
+                    batch = new ArrayList<>(mailbox.pending);
+                    mailbox.pending.clear();
+                    mailbox.scheduled = false;
+                    mailbox.drained.signalAll();
+                } finally {
+                    mailbox.lock.unlock();
+                }
+                batch.sort(SEQUENCE_ORDER);
+                apply(batch);
+                mailbox.lock.lock();
+                try {
+                    if (!mailbox.scheduled) {
+                        // Idle mailboxes are dropped so finished matches leave nothing behind; a feed still holding
+                        // this one schedules it on this same writer.
+                        mailboxes.remove(mailbox.matchId, mailbox);
+                    }
+                } finally {
+                    mailbox.lock.unlock();
+                }
+                done(batch.size());
+            }
+        } catch (final InterruptedException e) {
+            // pipeline closed
+        }
+    }
+
+    /** Applies the newest acceptable message of a sequence-ordered batch. */
+    private void apply(final List<FeedMessage> batch) {
+        int from = 0;
+        final int end = batch.size();
+        while (from < end) {
+            int accepted = -1;
+            for (int i = end - 1; i >= from && accepted < 0; i--) {
+                final FeedMessage message = batch.get(i);
+                switch (sink.ingestScore(message.matchId(), message.sequence(), message.score())) {
+                    case APPLIED, UNCHANGED -> accepted = i;
+                    case REJECTED -> {
+                        // try an older message
+                    }
+                    case DUPLICATE, STALE -> {
+                        // everything older is stale too; everything newer was just rejected
+                        dropped.add(i - from + 1);
+                        rejected.add(end - 1 - i);
+                        return;
+                    }
+                    case NOT_FOUND -> {
+                        dropped.add(end - from);
+                        return;
+                    }
+                }
+            }
+            if (accepted < 0) {
+                rejected.add(end - from);
+                return;
+            }
+            applied.increment();
+            coalesced.add(accepted - from);
+            from = accepted + 1;
+        }
+    }
+
+    private void done(final int messages) {
+        if (inFlight.addAndGet(-messages) == 0) {
+            idleLock.lock();
+            try {
+                idle.signalAll();
+            } finally {
+                idleLock.unlock();
+            }
+        }
+    }
+
+    /** Pipeline counters. Every received message ends up applied, coalesced, dropped or rejected. */
+    public record Stats(long received, long applied, long coalesced, long dropped, long rejected, long feedFailures) {
+    }
+
+    /**
+     * Pending messages of one match, guarded by {@code lock}; {@code scheduled} is set while it waits in a writer's
+     * queue, and feeds held back by a full mailbox wait on {@code drained}.
+     */
+    private static final class Mailbox {
+        private final long matchId;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition drained = lock.newCondition();
+        private final ArrayDeque<FeedMessage> pending = new ArrayDeque<>();
+        private boolean scheduled;
+
+        private Mailbox(final long matchId) {
+            this.matchId = matchId;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.hanabezdrob.scoreboard;
+
+/**
+ * One score message from a provider feed: the board id of the match, the provider's sequence number for it and the
+ * score it reports.
+ */
+public record FeedMessage(long matchId, long sequence, Score score) {
+}
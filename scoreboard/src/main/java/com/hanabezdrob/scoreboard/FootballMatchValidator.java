@@ -1,47 +1,89 @@
 package com.hanabezdrob.scoreboard;
 
-import java.util.Objects;
+/**
+ * Default football rules. The {@code check} methods evaluate them without throwing or allocating; the
+ * {@code validate} methods throw the matching exception for a failed check.
+ */
+public class FootballMatchValidator implements MatchValidator {
+    private final ScoreboardMetrics metrics;
 
-import static java.lang.String.format;
+    public FootballMatchValidator() {
+        this(ScoreboardMetrics.NOOP);
+    }
+
+    /** @param metrics told the result of every rejected start or score update */
+    public FootballMatchValidator(final ScoreboardMetrics metrics) {
+        this.metrics = metrics;
+    }
 
-public class FootballMatchValidator implements MatchValidator {
     @Override
     public void validateNewMatch(final String home, final String away, final Iterable<Match> existingMatches) {
-        Objects.requireNonNull(home, "Home team must not be null");
-        Objects.requireNonNull(away, "Away team must not be null");
-
-        if (home.isBlank() || away.isBlank()) {
-            throw new IllegalArgumentException("Team names must not be blank");
-        }
-        if (home.equals(away)) {
-            throw new IllegalArgumentException("Home and away team must be different");
+        if (!validTeamNames(home, away)) {
+            throw rejected(ValidationResult.INVALID_TEAMS).newMatchException(home, away, null);
         }
 
         for (final Match match : existingMatches) {
             if (match.homeTeam().equals(home) || match.awayTeam().equals(home)) {
-                throw new IllegalStateException(format("Team %s has a match in progress", home));
+                rejected(ValidationResult.TEAM_BUSY);
+                throw ValidationResult.teamBusy(home);
             }
             if (match.homeTeam().equals(away) || match.awayTeam().equals(away)) {
-                throw new IllegalStateException(format("Team %s has a match in progress", away));
+                rejected(ValidationResult.TEAM_BUSY);
+                throw ValidationResult.teamBusy(away);
             }
         }
     }
 
+    @Override
+    public void validateNewMatch(final String home, final String away, final LiveMatchIndex liveMatches) {
+        final ValidationResult result = checkNewMatch(home, away, liveMatches);
+        if (!result.isOk()) {
+            throw result.newMatchException(home, away, liveMatches);
+        }
+    }
+
     @Override
     public void validateScoreUpdate(final Match oldMatch, final Score newScore) {
+        final ValidationResult result = checkScoreUpdate(oldMatch, newScore);
+        if (!result.isOk()) {
+            throw result.scoreUpdateException(oldMatch, newScore);
+        }
+    }
+
+    @Override
+    public ValidationResult checkNewMatch(final String home, final String away, final LiveMatchIndex liveMatches) {
+        if (!validTeamNames(home, away)) {
+            return rejected(ValidationResult.INVALID_TEAMS);
+        }
+        if (liveMatches.isPlaying(home) || liveMatches.isPlaying(away)) {
+            return rejected(ValidationResult.TEAM_BUSY);
+        }
+        return ValidationResult.OK;
+    }
+
+    @Override
+    public ValidationResult checkScoreUpdate(final Match oldMatch, final Score newScore) {
         if (newScore.home() < oldMatch.getHomeScore() || newScore.away() < oldMatch.getAwayScore()) {
-            throw new IllegalArgumentException("Scores may not go down during a game");
+            return rejected(ValidationResult.SCORE_DECREASE);
         }
 
         if (newScore.home() > Scoreboard.MAX_SCORE || newScore.away() > Scoreboard.MAX_SCORE) {
-            throw new IllegalArgumentException(format("Score %s exceeds maximum allowed score", newScore));
+            return rejected(ValidationResult.MAX_SCORE);
         }
 
         if (newScore.home() - oldMatch.getHomeScore() > Scoreboard.MAX_DELTA ||
                 newScore.away() - oldMatch.getAwayScore() > Scoreboard.MAX_DELTA) {
-            throw new IllegalArgumentException(
-                    format("Score increase from %s to %s exceeds maximum score increase", oldMatch.score(), newScore)
-            );
+            return rejected(ValidationResult.MAX_DELTA);
         }
+        return ValidationResult.OK;
+    }
+
+    private static boolean validTeamNames(final String home, final String away) {
+        return home != null && away != null && !home.isBlank() && !away.isBlank() && !home.equals(away);
+    }
+
+    private ValidationResult rejected(final ValidationResult result) {
+        metrics.recordRejection(result);
+        return result;
     }
 }
@@ -0,0 +1,20 @@
+package com.hanabezdrob.scoreboard;
+
+/**
+ * Outcome of {@link Scoreboard#ingestScore} and {@link ConcurrentScoreboard#ingestScore}. Only {@link #APPLIED} changes
+ * the board.
+ */
+public enum IngestResult {
+    /** The score was validated and applied. */
+    APPLIED,
+    /** Newer message carrying the current score; its sequence is recorded, the board is unchanged. */
+    UNCHANGED,
+    /** The sequence equals the last accepted one: a resend. */
+    DUPLICATE,
+    /** The sequence is older than the last accepted one: an out-of-order delivery. */
+    STALE,
+    /** No live match has the given id. */
+    NOT_FOUND,
+    /** Newer message whose score the validator rejected; the sequence is not recorded. */
+    REJECTED
+}
@@ -0,0 +1,31 @@
+package com.hanabezdrob.scoreboard;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Durability settings of a {@link ScoreboardJournal}.
+ *
+ * @param fsyncInterval how often a background thread forces journal writes to disk; {@link Duration#ZERO} forces
+ *                      every record before the board operation returns
+ * @param snapshotInterval number of journal records after which a snapshot is written and the journal restarted,
+ *                         {@code 0} to snapshot only on {@link ScoreboardJournal#snapshot()}
+ */
+public record JournalOptions(Duration fsyncInterval, int snapshotInterval) {
+    public JournalOptions {
+        Objects.requireNonNull(fsyncInterval, "Fsync interval must not be null");
+        if (fsyncInterval.isNegative()) {
+            throw new IllegalArgumentException("Fsync interval must not be negative");
+        }
+        if (snapshotInterval < 0) {
+            throw new IllegalArgumentException("Snapshot interval must not be negative");
+        }
+    }
+
+    /**
+     * @return fsync every 100 ms, snapshot every 100 000 records
+     */
+    public static JournalOptions defaults() {
+        return new JournalOptions(Duration.ofMillis(100), 100_000);
+    }
+}
@@ -0,0 +1,97 @@
+package com.hanabezdrob.scoreboard;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe, fixed-size latency histogram in the style of HdrHistogram: values are counted in log-linear buckets
+ * with 16 linear sub-buckets per power of two, giving percentiles within about 6% of the recorded value over the
+ * whole {@code long} range. Recording is a single atomic increment and never allocates.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_SUB_BUCKET_COUNT = SUB_BUCKET_COUNT / 2;
+    private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS + 1) * HALF_SUB_BUCKET_COUNT + HALF_SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong max = new AtomicLong();
+
+    /** Records one value; negative values are counted as zero. */
+    public void record(final long value) {
+        final long recorded = Math.max(0, value);
+        counts.incrementAndGet(indexOf(recorded));
+        if (recorded > max.get()) {
+            max.accumulateAndGet(recorded, Math::max);
+        }
+    }
+
+    /**
+     * @return number of recorded values
+     */
+    public long count() {
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            total += counts.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * @param percentile between 0 and 100
+     * @return highest value equivalent to the recorded value at {@code percentile}, or 0 if nothing was recorded
+     */
+    public long percentile(final double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        }
+        final long total = count();
+        if (total == 0) {
+            return 0;
+        }
+
+        final long target = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return Math.min(highestEquivalentValue(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * @return largest recorded value
+     */
+    public long max() {
+        return max.get();
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        max.set(0);
+    }
+
+    static int indexOf(final long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        final int exponent = 64 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return exponent * HALF_SUB_BUCKET_COUNT + (int) (value >>> exponent);
+    }
+
+    private static long lowestEquivalentValue(final int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        final int exponent = index / HALF_SUB_BUCKET_COUNT - 1;
+        return (long) (index % HALF_SUB_BUCKET_COUNT + HALF_SUB_BUCKET_COUNT) << exponent;
+    }
+
+    private static long highestEquivalentValue(final int index) {
+        return index + 1 == BUCKET_COUNT ? Long.MAX_VALUE : lowestEquivalentValue(index + 1) - 1;
+    }
+}
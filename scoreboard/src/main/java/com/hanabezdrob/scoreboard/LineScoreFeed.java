@@ -0,0 +1,57 @@
+package com.hanabezdrob.scoreboard;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Text feed of one message per line, {@code matchId,sequence,homeScore,awayScore}, read from any {@link Reader}
+ * such as a socket stream. Blank lines are ignored; malformed lines are skipped and counted.
+ */
+public class LineScoreFeed implements ScoreFeed {
+    private final BufferedReader reader;
+    private long malformedLines;
+
+    public LineScoreFeed(final Reader reader) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+    }
+
+    @Override
+    public FeedMessage next() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            final FeedMessage message = parse(line);
+            if (message != null) {
+                return message;
+            }
+        }
+        return null;
+    }
+
+    /** @return number of lines skipped because they could not be parsed */
+    public long getMalformedLines() {
+        return malformedLines;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private FeedMessage parse(final String line) {
+        if (line.isBlank()) {
+            return null;
+        }
+        final String[] fields = line.split(",", -1);
+        try {
+            if (fields.length == 4) {
+                return new FeedMessage(Long.parseLong(fields[0].strip()), Long.parseLong(fields[1].strip()),
+                        new Score(Integer.parseInt(fields[2].strip()), Integer.parseInt(fields[3].strip())));
+            }
+        } catch (final IllegalArgumentException e) {
+            // not a number, or a negative score
+        }
+        malformedLines++;
+        return null;
+    }
+}
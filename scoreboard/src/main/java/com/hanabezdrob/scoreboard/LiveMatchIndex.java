@@ -0,0 +1,24 @@
+package com.hanabezdrob.scoreboard;
+
+import java.util.Optional;
+
+/**
+ * Read-only, hash-indexed view of the matches currently in progress, handed to a {@link MatchValidator}
+ * so it can check team availability without scanning every live match.
+ */
+public interface LiveMatchIndex {
+    /**
+     * @return {@code true} if {@code team} is playing home or away in a live match
+     */
+    boolean isPlaying(final String team);
+
+    /**
+     * @return the live match {@code team} is playing in, or empty if the team is not playing
+     */
+    Optional<Match> findByTeam(final String team);
+
+    /**
+     * @return all live matches, in start order
+     */
+    Iterable<Match> matches();
+}
@@ -0,0 +1,383 @@
+package com.hanabezdrob.scoreboard;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import static java.lang.String.format;
+
+/**
+ * Disk-backed archive of finished matches. Register it as a {@link ScoreboardListener} and every
+ * {@link ScoreboardEvent.MatchFinished} is moved into it.
+ *
+ * <p>Matches are stored as fixed-width 48-byte records in a memory-mapped file, in finish order. Each record links to
+ * the previous record of its home team, of its away team and of its total goals, so the team index and the
+ * total-goals index are chains through the file itself: the heap only holds the newest record per team and per
+ * goal total, and the interned team names. Queries walk a chain and decode just the records they return.</p>
+ *
+ * <p>Team names are appended to {@code teams.dat}, records to {@code matches.dat}, whose header holds the record
+ * count. Records are visible to queries immediately and reach the disk when the OS writes the mapped pages back, on
+ * {@link #flush()} or on {@link #close()}. Thread-safe.</p>
+ */
+public class MatchArchive implements ScoreboardListener, Closeable {
+    private static final int MAGIC = 0x5343424D;
+    private static final int HEADER_BYTES = 16;
+    private static final int RECORD_BYTES = 48;
+    private static final int SEGMENT_RECORDS = 1 << 16;
+    private static final long SEGMENT_BYTES = (long) SEGMENT_RECORDS * RECORD_BYTES;
+    private static final int NONE = -1;
+    private static final int MAX_STORED_SCORE = 0xFFFF;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private static final int MATCH_ID = 0;
+    private static final int START_NANOS = 8;
+    private static final int FINISH_NANOS = 16;
+    private static final int HOME_TEAM = 24;
+    private static final int AWAY_TEAM = 28;
+    private static final int SCORES = 32;
+    private static final int PREVIOUS_HOME = 36;
+    private static final int PREVIOUS_AWAY = 40;
+    private static final int PREVIOUS_TOTAL = 44;
+
+    private final Clock clock;
+    private final FileChannel teamsChannel;
+    private final FileChannel matchesChannel;
+    private final MappedByteBuffer header;
+    private final TeamRegistry teams = new TeamRegistry();
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+    private final ByteBuffer nameBuffer = ByteBuffer.allocate(1024);
+    private int[] lastByTeam = new int[16];
+    private int[] lastByTotal = new int[2 * Scoreboard.MAX_SCORE + 1];
+    private int count;
+    private long lastFinishNanos = Long.MIN_VALUE;
+
+    private MatchArchive(final Clock clock, final FileChannel teamsChannel, final FileChannel matchesChannel)
+            throws IOException {
+        this.clock = clock;
+        this.teamsChannel = teamsChannel;
+        this.matchesChannel = matchesChannel;
+        this.header = matchesChannel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+        Arrays.fill(lastByTeam, NONE);
+        Arrays.fill(lastByTotal, NONE);
+    }
+
+    /**
+     * Opens (creating if needed) the archive stored in {@code directory}, rebuilding the in-memory index heads with
+     * one sequential pass over the records. Finish times are taken from the UTC system clock.
+     */
+    public static MatchArchive open(final Path directory) throws IOException {
+        return open(directory, Clock.systemUTC());
+    }
+
+    /** Opens the archive stored in {@code directory}, taking finish times from {@code clock}. */
+    public static MatchArchive open(final Path directory, final Clock clock) throws IOException {
+        Objects.requireNonNull(directory, "Directory must not be null");
+        Objects.requireNonNull(clock, "Clock must not be null");
+        Files.createDirectories(directory);
+        final FileChannel teamsChannel = FileChannel.open(directory.resolve("teams.dat"), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        final FileChannel matchesChannel = FileChannel.open(directory.resolve("matches.dat"),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        final MatchArchive archive = new MatchArchive(clock, teamsChannel, matchesChannel);
+        try {
+            archive.load();
+        } catch (final IOException | RuntimeException e) {
+            archive.close();
+            throw e;
+        }
+        return archive;
+    }
+
+    @Override
+    public void onEvent(final ScoreboardEvent event) {
+        if (event instanceof ScoreboardEvent.MatchFinished finished) {
+            try {
+                archive(finished.matchId(), finished.match());
+            } catch (final IOException e) {
+                throw new UncheckedIOException("Could not archive finished match", e);
+            }
+        }
+    }
+
+    /**
+     * Appends a finished match, finished at the archive clock's current instant. Finish times never go backwards
+     * within an archive, which keeps {@link #findFinishedBetween} a binary search.
+     *
+     * @throws IllegalArgumentException if a score does not fit the record format
+     */
+    public synchronized void archive(final long matchId, final Match match) throws IOException {
+        if (match.getHomeScore() > MAX_STORED_SCORE || match.getAwayScore() > MAX_STORED_SCORE) {
+            throw new IllegalArgumentException(format("Score %s exceeds archive range", match.score()));
+        }
+        final int home = internTeam(match.homeTeam());
+        final int away = internTeam(match.awayTeam());
+        final int total = match.score().total();
+        final long finishNanos = Math.max(lastFinishNanos, toNanos(clock.instant()));
+        final int index = count;
+        ensureIndexCapacity(Math.max(home, away), total);
+
+        final ByteBuffer segment = segment(index);
+        final int offset = offset(index);
+        segment.putLong(offset + MATCH_ID, matchId);
+        segment.putLong(offset + START_NANOS, toNanos(match.startTime()));
+        segment.putLong(offset + FINISH_NANOS, finishNanos);
+        segment.putInt(offset + HOME_TEAM, home);
+        segment.putInt(offset + AWAY_TEAM, away);
+        segment.putInt(offset + SCORES, match.getHomeScore() << 16 | match.getAwayScore());
+        segment.putInt(offset + PREVIOUS_HOME, lastByTeam[home]);
+        segment.putInt(offset + PREVIOUS_AWAY, lastByTeam[away]);
+        segment.putInt(offset + PREVIOUS_TOTAL, lastByTotal[total]);
+
+        link(home, away, total, index);
+        lastFinishNanos = finishNanos;
+        count = index + 1;
+        header.putLong(8, count);
+    }
+
+    /** @return number of archived matches */
+    public synchronized int size() {
+        return count;
+    }
+
+    /**
+     * Follows the team index; the cost is proportional to the number of matches returned.
+     *
+     * @return at most {@code limit} matches {@code team} played home or away, most recently finished first
+     */
+    public synchronized List<ArchivedMatch> findByTeam(final String team, final int limit) {
+        requireLimit(limit);
+        final int id = teams.find(team);
+        final List<ArchivedMatch> matches = new ArrayList<>();
+        int index = id == TeamRegistry.UNKNOWN || id >= lastByTeam.length ? NONE : lastByTeam[id];
+        while (index != NONE && matches.size() < limit) {
+            matches.add(read(index));
+            final ByteBuffer segment = segment(index);
+            final int offset = offset(index);
+            index = segment.getInt(offset + HOME_TEAM) == id
+                    ? segment.getInt(offset + PREVIOUS_HOME)
+                    : segment.getInt(offset + PREVIOUS_AWAY);
+        }
+        return List.copyOf(matches);
+    }
+
+    /**
+     * Follows the total-goals index from {@code maxGoals} down to {@code minGoals}.
+     *
+     * @return at most {@code limit} matches with a total in the range, by total goals desc, then most recently
+     * finished first
+     */
+    public synchronized List<ArchivedMatch> findByTotalGoals(final int minGoals, final int maxGoals, final int limit) {
+        requireLimit(limit);
+        if (minGoals < 0 || maxGoals < minGoals) {
+            throw new IllegalArgumentException(format("Invalid goal range %d-%d", minGoals, maxGoals));
+        }
+        final List<ArchivedMatch> matches = new ArrayList<>();
+        for (int total = Math.min(maxGoals, lastByTotal.length - 1); total >= minGoals; total--) {
+            int index = lastByTotal[total];
+            while (index != NONE && matches.size() < limit) {
+                matches.add(read(index));
+                index = segment(index).getInt(offset(index) + PREVIOUS_TOTAL);
+            }
+        }
+        return List.copyOf(matches);
+    }
+
+    /** @return the {@code n} highest-scoring archived matches, most recently finished first among equal totals */
+    public List<ArchivedMatch> getTopScoring(final int n) {
+        return findByTotalGoals(0, Integer.MAX_VALUE, n);
+    }
+
+    /**
+     * Binary-searches the finish-time column, which is sorted because records are appended in finish order.
+     *
+     * @return at most {@code limit} matches finished in {@code [from, to)}, in finish order
+     */
+    public synchronized List<ArchivedMatch> findFinishedBetween(final Instant from, final Instant to,
+                                                                final int limit) {
+        requireLimit(limit);
+        final long toNanos = toNanos(to);
+        final List<ArchivedMatch> matches = new ArrayList<>();
+        for (int index = firstFinishedAtOrAfter(toNanos(from)); index < count && matches.size() < limit; index++) {
+            if (segment(index).getLong(offset(index) + FINISH_NANOS) >= toNanos) {
+                break;
+            }
+            matches.add(read(index));
+        }
+        return List.copyOf(matches);
+    }
+
+    /** Forces archived records and the record count to disk. */
+    public synchronized void flush() throws IOException {
+        for (final MappedByteBuffer segment : segments) {
+            segment.force();
+        }
+        header.force();
+        teamsChannel.force(false);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (!matchesChannel.isOpen()) {
+            return;
+        }
+        try {
+            flush();
+        } finally {
+            teamsChannel.close();
+            matchesChannel.close();
+        }
+    }
+
+    private void load() throws IOException {
+        final ByteBuffer names = ByteBuffer.allocate((int) Math.min(teamsChannel.size(), Integer.MAX_VALUE));
+        while (names.hasRemaining() && teamsChannel.read(names, names.position()) >= 0) {
+            // read every team name
+        }
+        names.flip();
+        long validEnd = 0;
+        try {
+            while (names.hasRemaining()) {
+                teams.intern(VarInts.getString(names));
+                validEnd = names.position();
+            }
+        } catch (final BufferUnderflowException | IllegalArgumentException e) {
+            // torn tail: the name was never referenced by a counted record
+        }
+        teamsChannel.truncate(validEnd);
+        teamsChannel.position(validEnd);
+
+        if (header.getInt(0) == 0) {
+            header.putInt(0, MAGIC);
+        } else if (header.getInt(0) != MAGIC) {
+            throw new IOException("Corrupt match archive header");
+        }
+        final long stored = header.getLong(8);
+        if (stored < 0 || stored > Integer.MAX_VALUE) {
+            throw new IOException("Corrupt match archive header");
+        }
+
+        count = (int) stored;
+        for (int index = 0; index < count; index++) {
+            final ByteBuffer segment = segment(index);
+            final int offset = offset(index);
+            final int home = segment.getInt(offset + HOME_TEAM);
+            final int away = segment.getInt(offset + AWAY_TEAM);
+            if (home < 0 || home >= teams.size() || away < 0 || away >= teams.size()) {
+                throw new IOException(format("Corrupt match archive record %d", index));
+            }
+            final int scores = segment.getInt(offset + SCORES);
+            final int total = (scores >>> 16) + (scores & 0xFFFF);
+            ensureIndexCapacity(Math.max(home, away), total);
+            link(home, away, total, index);
+        }
+        if (count > 0) {
+            lastFinishNanos = segment(count - 1).getLong(offset(count - 1) + FINISH_NANOS);
+        }
+    }
+
+    private int internTeam(final String name) throws IOException {
+        final int known = teams.size();
+        final int id = teams.intern(name);
+        if (id == known) {
+            final ByteBuffer out = VarInts.maxStringSize(name) > nameBuffer.capacity()
+                    ? ByteBuffer.allocate(VarInts.maxStringSize(name))
+                    : nameBuffer.clear();
+            VarInts.putString(out, name);
+            out.flip();
+            while (out.hasRemaining()) {
+                teamsChannel.write(out);
+            }
+        }
+        return id;
+    }
+
+    private void ensureIndexCapacity(final int team, final int total) {
+        if (team >= lastByTeam.length) {
+            final int previousLength = lastByTeam.length;
+            lastByTeam = Arrays.copyOf(lastByTeam, Math.max(team + 1, previousLength * 2));
+            Arrays.fill(lastByTeam, previousLength, lastByTeam.length, NONE);
+        }
+        if (total >= lastByTotal.length) {
+            final int previousLength = lastByTotal.length;
+            lastByTotal = Arrays.copyOf(lastByTotal, total + 1);
+            Arrays.fill(lastByTotal, previousLength, lastByTotal.length, NONE);
+        }
+    }
+
+    private void link(final int home, final int away, final int total, final int index) {
+        lastByTeam[home] = index;
+        lastByTeam[away] = index;
+        lastByTotal[total] = index;
+    }
+
+    private ArchivedMatch read(final int index) {
+        final ByteBuffer segment = segment(index);
+        final int offset = offset(index);
+        final int scores = segment.getInt(offset + SCORES);
+        final Match match = new Match(teams.name(segment.getInt(offset + HOME_TEAM)),
+                teams.name(segment.getInt(offset + AWAY_TEAM)), new Score(scores >>> 16, scores & 0xFFFF),
+                fromNanos(segment.getLong(offset + START_NANOS)));
+        return new ArchivedMatch(segment.getLong(offset + MATCH_ID), match,
+                fromNanos(segment.getLong(offset + FINISH_NANOS)));
+    }
+
+    private int firstFinishedAtOrAfter(final long nanos) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (segment(middle).getLong(offset(middle) + FINISH_NANOS) < nanos) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /** Maps segments lazily; mapping past the end of the file grows it. */
+    private ByteBuffer segment(final int index) {
+        final int segment = index / SEGMENT_RECORDS;
+        try {
+            while (segments.size() <= segment) {
+                segments.add(matchesChannel.map(FileChannel.MapMode.READ_WRITE,
+                        HEADER_BYTES + segments.size() * SEGMENT_BYTES, SEGMENT_BYTES));
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Could not map match archive", e);
+        }
+        return segments.get(segment);
+    }
+
+    private static int offset(final int index) {
+        return index % SEGMENT_RECORDS * RECORD_BYTES;
+    }
+
+    private static void requireLimit(final int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Number of matches must not be negative");
+        }
+    }
+
+    /** @throws ArithmeticException for instants outside 1677-2262, the range of epoch nanoseconds in a long */
+    private static long toNanos(final Instant instant) {
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), NANOS_PER_SECOND), instant.getNano());
+    }
+
+    private static Instant fromNanos(final long nanos) {
+        return Instant.ofEpochSecond(Math.floorDiv(nanos, NANOS_PER_SECOND), Math.floorMod(nanos, NANOS_PER_SECOND));
+    }
+}
@@ -0,0 +1,46 @@
+package com.hanabezdrob.scoreboard;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Expiry settings of a {@link MatchScheduler}.
+ *
+ * @param tick              resolution of the timer wheel; deadlines fire up to one tick late
+ * @param maxDuration       time after kickoff at which a match expires, {@link Duration#ZERO} for no limit
+ * @param inactivityTimeout time without a score change after which a match expires, {@link Duration#ZERO} for no
+ *                          limit
+ * @param action            what happens to an expired match
+ */
+public record MatchLifecycleOptions(Duration tick, Duration maxDuration, Duration inactivityTimeout,
+                                    ExpiryAction action) {
+    public MatchLifecycleOptions {
+        Objects.requireNonNull(tick, "Tick must not be null");
+        Objects.requireNonNull(maxDuration, "Max duration must not be null");
+        Objects.requireNonNull(inactivityTimeout, "Inactivity timeout must not be null");
+        Objects.requireNonNull(action, "Expiry action must not be null");
+        if (tick.isNegative() || tick.isZero()) {
+            throw new IllegalArgumentException("Tick must be positive");
+        }
+        if (maxDuration.isNegative() || inactivityTimeout.isNegative()) {
+            throw new IllegalArgumentException("Timeouts must not be negative");
+        }
+    }
+
+    /**
+     * @return one-second ticks, matches finished three hours after kickoff or after 30 minutes without a score
+     * change
+     */
+    public static MatchLifecycleOptions defaults() {
+        return new MatchLifecycleOptions(Duration.ofSeconds(1), Duration.ofHours(3), Duration.ofMinutes(30),
+                ExpiryAction.FINISH);
+    }
+
+    /** What a {@link MatchScheduler} does with a match that went past a timeout. */
+    public enum ExpiryAction {
+        /** Finish the match, removing it from the board. */
+        FINISH,
+        /** Keep the match live and report it in {@link MatchScheduler#getFlaggedMatchIds()}. */
+        FLAG
+    }
+}
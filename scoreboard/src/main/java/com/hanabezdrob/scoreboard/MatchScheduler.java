@@ -0,0 +1,287 @@
+package com.hanabezdrob.scoreboard;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Time-driven match lifecycle for a {@link Scoreboard}: kickoffs scheduled ahead of time, and expiry of matches
+ * that run past {@link MatchLifecycleOptions#maxDuration()} or go {@link MatchLifecycleOptions#inactivityTimeout()}
+ * without a score change, so abandoned matches do not stay on the board forever.
+ *
+ * <p>Deadlines sit in a hashed timer wheel with one slot per tick, sized to cover the longest timeout, so each
+ * tick only visits the deadlines that fall due in it, however many matches are live. Kickoffs further away than one
+ * turn of the wheel are passed over once per turn. Score changes do not move anything in the wheel: they record
+ * the activity time, and an inactivity deadline that fires early is re-armed from it.</p>
+ *
+ * <p>Time comes from the board's {@link Scoreboard#getClock() clock}. Nothing runs in the background: call
+ * {@link #advance()} periodically, on the thread that owns the board, to fire everything that fell due. Not
+ * thread-safe.</p>
+ */
+public class MatchScheduler implements ScoreboardListener {
+    private static final int MAX_WHEEL_SIZE = 1 << 20;
+
+    private final Scoreboard scoreboard;
+    private final MatchLifecycleOptions options;
+    private final long tickNanos;
+    private final long maxDurationNanos;
+    private final long inactivityNanos;
+    private final Entry[] wheel;
+    private final int mask;
+    private final Map<Long, Tracked> tracked = new HashMap<>();
+    private final Set<Long> flagged = new LinkedHashSet<>();
+    private long currentTick;
+    private int pendingKickoffs;
+    private long rejectedKickoffs;
+
+    private MatchScheduler(final Scoreboard scoreboard, final MatchLifecycleOptions options) {
+        this.scoreboard = scoreboard;
+        this.options = options;
+        this.tickNanos = options.tick().toNanos();
+        this.maxDurationNanos = options.maxDuration().toNanos();
+        this.inactivityNanos = options.inactivityTimeout().toNanos();
+        final long span = Math.ceilDiv(Math.max(maxDurationNanos, inactivityNanos), tickNanos) + 2;
+        final int size = span >= MAX_WHEEL_SIZE ? MAX_WHEEL_SIZE : Integer.highestOneBit((int) span - 1) << 1;
+        this.wheel = new Entry[size];
+        this.mask = size - 1;
+        this.currentTick = Math.floorDiv(nowNanos(), tickNanos);
+    }
+
+    /**
+     * Starts tracking every match live on {@code scoreboard} from now on, and every match started later. A match
+     * already live keeps its kickoff: its maximum duration counts from its start time, and a match already past it
+     * expires on the first {@link #advance()}. Inactivity counts from now.
+     */
+    public static MatchScheduler attach(final Scoreboard scoreboard, final MatchLifecycleOptions options) {
+        Objects.requireNonNull(scoreboard, "Scoreboard must not be null");
+        Objects.requireNonNull(options, "Options must not be null");
+        final MatchScheduler scheduler = new MatchScheduler(scoreboard, options);
+        for (final Match match : scoreboard.getMatchesInProgress()) {
+            scheduler.track(scoreboard.getMatchId(match), match.startTime());
+        }
+        scoreboard.addListener(scheduler);
+        return scheduler;
+    }
+
+    /** Stops tracking the board; scheduled kickoffs and deadlines are dropped. */
+    public void detach() {
+        scoreboard.removeListener(this);
+        tracked.values().forEach(match -> match.live = false);
+        tracked.clear();
+        flagged.clear();
+        Arrays.fill(wheel, null);
+        pendingKickoffs = 0;
+    }
+
+    /**
+     * Starts {@code homeTeam} vs {@code awayTeam} on the first {@link #advance()} at or after {@code kickoff}. The
+     * match is validated when it starts; a kickoff the board rejects then is dropped and counted in
+     * {@link #getRejectedKickoffs()}.
+     */
+    public void scheduleKickoff(final String homeTeam, final String awayTeam, final Instant kickoff) {
+        Objects.requireNonNull(homeTeam, "Home team must not be null");
+        Objects.requireNonNull(awayTeam, "Away team must not be null");
+        Objects.requireNonNull(kickoff, "Kickoff must not be null");
+        schedule(new Entry(Entry.KICKOFF, deadlineTick(toNanos(kickoff)), null, homeTeam, awayTeam));
+        pendingKickoffs++;
+    }
+
+    /**
+     * Fires every kickoff and expiry that fell due up to the clock's current time.
+     *
+     * @return number of matches expired by this call
+     */
+    public int advance() {
+        final long target = Math.floorDiv(nowNanos(), tickNanos);
+        int expired = 0;
+        if (target - currentTick > wheel.length) {
+            // Fell more than a turn behind: one pass over every slot fires everything due.
+            for (int slot = 0; slot < wheel.length; slot++) {
+                expired += fire(slot, target);
+            }
+            currentTick = target;
+            return expired;
+        }
+        while (currentTick < target) {
+            currentTick++;
+            expired += fire((int) (currentTick & mask), currentTick);
+        }
+        return expired;
+    }
+
+    /** @return ids of the live matches flagged as expired by {@link MatchLifecycleOptions.ExpiryAction#FLAG} */
+    public Set<Long> getFlaggedMatchIds() {
+        return Collections.unmodifiableSet(flagged);
+    }
+
+    /** @return number of kickoffs waiting for their time */
+    public int getPendingKickoffs() {
+        return pendingKickoffs;
+    }
+
+    /** @return number of kickoffs the board rejected when they fell due */
+    public long getRejectedKickoffs() {
+        return rejectedKickoffs;
+    }
+
+    @Override
+    public void onEvent(final ScoreboardEvent event) {
+        switch (event) {
+            case ScoreboardEvent.MatchStarted started -> track(started.matchId(), started.match().startTime());
+            case ScoreboardEvent.ScoreUpdated updated -> {
+                final Tracked match = tracked.get(updated.matchId());
+                if (match != null) {
+                    match.lastActivityNanos = nowNanos();
+                    if (match.inactive) {
+                        // the inactivity deadline already fired; the match is active again
+                        match.inactive = false;
+                        if (!match.overtime) {
+                            flagged.remove(match.id);
+                        }
+                        schedule(new Entry(Entry.INACTIVITY, deadlineTick(match.lastActivityNanos + inactivityNanos),
+                                match, null, null));
+                    }
+                }
+            }
+            case ScoreboardEvent.MatchFinished finished -> {
+                final Tracked match = tracked.remove(finished.matchId());
+                if (match != null) {
+                    match.live = false;
+                    flagged.remove(match.id);
+                }
+            }
+        }
+    }
+
+    /** Arms the deadlines of a live match: max duration from its kickoff, inactivity from now. */
+    private void track(final long matchId, final Instant startTime) {
+        final long now = nowNanos();
+        final Tracked match = new Tracked(matchId, now);
+        tracked.put(matchId, match);
+        if (maxDurationNanos > 0) {
+            final long deadline = deadlineTick(toNanos(startTime) + maxDurationNanos);
+            schedule(new Entry(Entry.MAX_DURATION, deadline, match, null, null));
+        }
+        if (inactivityNanos > 0) {
+            schedule(new Entry(Entry.INACTIVITY, deadlineTick(now + inactivityNanos), match, null, null));
+        }
+    }
+
+    /** Fires the entries of {@code slot} due at {@code tick} and puts the rest back. */
+    private int fire(final int slot, final long tick) {
+        Entry entry = wheel[slot];
+        wheel[slot] = null;
+        int expired = 0;
+        while (entry != null) {
+            final Entry next = entry.next;
+            entry.next = null;
+            if (entry.deadlineTick > tick) {
+                schedule(entry);
+            } else {
+                expired += fire(entry, tick);
+            }
+            entry = next;
+        }
+        return expired;
+    }
+
+    private int fire(final Entry entry, final long tick) {
+        if (entry.kind == Entry.KICKOFF) {
+            pendingKickoffs--;
+            if (!scoreboard.tryStartMatch(entry.homeTeam, entry.awayTeam).isOk()) {
+                rejectedKickoffs++;
+            }
+            return 0;
+        }
+        final Tracked match = entry.match;
+        if (!match.live) {
+            return 0;
+        }
+        if (entry.kind == Entry.INACTIVITY) {
+            final long deadline = deadlineTick(match.lastActivityNanos + inactivityNanos);
+            if (deadline > tick) {
+                entry.deadlineTick = deadline;
+                schedule(entry);
+                return 0;
+            }
+            match.inactive = true;
+        } else {
+            match.overtime = true;
+        }
+        return expire(match);
+    }
+
+    private int expire(final Tracked match) {
+        if (options.action() == MatchLifecycleOptions.ExpiryAction.FLAG) {
+            return flagged.add(match.id) ? 1 : 0;
+        }
+        final Match current = scoreboard.findMatch(match.id).orElse(null);
+        if (current == null) {
+            return 0;
+        }
+        scoreboard.finishMatch(current);
+        return 1;
+    }
+
+    private void schedule(final Entry entry) {
+        final long tick = Math.max(entry.deadlineTick, currentTick + 1);
+        final int slot = (int) (tick & mask);
+        entry.next = wheel[slot];
+        wheel[slot] = entry;
+    }
+
+    private long nowNanos() {
+        return toNanos(scoreboard.getClock().instant());
+    }
+
+    /** @return first tick at or after {@code nanos}, so a deadline never fires before its time */
+    private long deadlineTick(final long nanos) {
+        return Math.ceilDiv(nanos, tickNanos);
+    }
+
+    private static long toNanos(final Instant instant) {
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000_000L), instant.getNano());
+    }
+
+    /** Per-match expiry state shared by its wheel entries. */
+    private static final class Tracked {
+        private final long id;
+        private long lastActivityNanos;
+        private boolean live = true;
+        private boolean inactive;
+        private boolean overtime;
+
+        private Tracked(final long id, final long startNanos) {
+            this.id = id;
+            this.lastActivityNanos = startNanos;
+        }
+    }
+
+    /** Timer wheel entry, chained within its slot. */
+    private static final class Entry {
+        private static final int KICKOFF = 0;
+        private static final int MAX_DURATION = 1;
+        private static final int INACTIVITY = 2;
+
+        private final int kind;
+        private final Tracked match;
+        private final String homeTeam;
+        private final String awayTeam;
+        private long deadlineTick;
+        private Entry next;
+
+        private Entry(final int kind, final long deadlineTick, final Tracked match, final String homeTeam,
+                      final String awayTeam) {
+            this.kind = kind;
+            this.deadlineTick = deadlineTick;
+            this.match = match;
+            this.homeTeam = homeTeam;
+            this.awayTeam = awayTeam;
+        }
+    }
+}
@@ -2,6 +2,12 @@ package com.hanabezdrob.scoreboard;
 
 /**
  * Encapsulates business‑rule checks for creating and updating matches.
+ *
+ * <p>Throwing board methods call the {@code validate} methods once, so a validator's own exceptions reach the
+ * caller. The {@code check} methods are the non-throwing contract used by the {@code try} and feed paths. They
+ * default to running the {@code validate} methods and report any violation as {@link ValidationResult#REJECTED};
+ * override them to classify violations without exceptions, and use the {@link ValidationResult} exception builders
+ * to keep both contracts in step.</p>
  */
 public interface MatchValidator {
     /**
@@ -11,10 +17,49 @@ public interface MatchValidator {
      */
     void validateNewMatch(final String homeTeam, final String awayTeam, final Iterable<Match> existingMatches);
 
+    /**
+     * Validate the parameters for starting a new match against an indexed view of live matches.
+     * Defaults to the {@link Iterable} variant; override to use constant-time team lookups.
+     *
+     * @throws IllegalArgumentException or IllegalStateException on violation
+     */
+    default void validateNewMatch(final String homeTeam, final String awayTeam, final LiveMatchIndex liveMatches) {
+        validateNewMatch(homeTeam, awayTeam, liveMatches.matches());
+    }
+
     /**
      * Validate the parameters for updating an existing match's score.
      *
      * @throws IllegalArgumentException on violation
      */
     void validateScoreUpdate(final Match oldMatch, final Score newScore);
+
+    /**
+     * Non-throwing variant of {@link #validateNewMatch(String, String, LiveMatchIndex)}.
+     *
+     * @return {@link ValidationResult#OK} or the violated rule
+     */
+    default ValidationResult checkNewMatch(final String homeTeam, final String awayTeam,
+                                           final LiveMatchIndex liveMatches) {
+        try {
+            validateNewMatch(homeTeam, awayTeam, liveMatches);
+            return ValidationResult.OK;
+        } catch (final IllegalArgumentException | IllegalStateException | NullPointerException e) {
+            return ValidationResult.REJECTED;
+        }
+    }
+
+    /**
+     * Non-throwing variant of {@link #validateScoreUpdate}.
+     *
+     * @return {@link ValidationResult#OK} or the violated rule
+     */
+    default ValidationResult checkScoreUpdate(final Match oldMatch, final Score newScore) {
+        try {
+            validateScoreUpdate(oldMatch, newScore);
+            return ValidationResult.OK;
+        } catch (final IllegalArgumentException | IllegalStateException e) {
+            return ValidationResult.REJECTED;
+        }
+    }
 }
@@ -0,0 +1,47 @@
+package com.hanabezdrob.scoreboard;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Ordering of a named ranking kept by a {@link Scoreboard}, expressed as a primitive sort key computed once per
+ * start and score change. Higher keys rank first; equal keys keep start order. Keys are compared as plain
+ * {@code long}s, so a ranking index never boxes or walks a {@link java.util.Comparator} chain.
+ *
+ * <p>Orderings with a tie-breaker pack both into one key, see {@link #withStartTime}.</p>
+ */
+@FunctionalInterface
+public interface RankingStrategy {
+    /** Total goals, then most recent start: the {@link Scoreboard#getSummary()} order at microsecond precision. */
+    RankingStrategy TOTAL_GOALS = (match, lastChange) -> withStartTime(match.score().total(), match.startTime());
+
+    /** Widest margin between the teams, then most recent start. */
+    RankingStrategy GOAL_DIFFERENCE = (match, lastChange) ->
+            withStartTime(Math.abs(match.getHomeScore() - match.getAwayScore()), match.startTime());
+
+    /** Home goals, then most recent start. */
+    RankingStrategy HOME_GOALS = (match, lastChange) -> withStartTime(match.getHomeScore(), match.startTime());
+
+    /** Most recently started or scored first. */
+    RankingStrategy MOST_RECENTLY_UPDATED = (match, lastChange) -> lastChange;
+
+    /** Largest value {@link #withStartTime} can rank by; higher values tie with it. */
+    int MAX_PRIMARY = (1 << 10) - 1;
+
+    /**
+     * @param match      current snapshot of the match
+     * @param lastChange board version of the match's start or latest score change
+     * @return sort key of {@code match}; higher ranks first
+     */
+    long sortKey(Match match, long lastChange);
+
+    /**
+     * Packs a primary value and the start time into one key: {@code primary} in the top 10 bits, clamped to
+     * {@code 0..}{@link #MAX_PRIMARY}, and epoch microseconds of {@code startTime} in the low 53 bits, so the key
+     * orders by primary value, then most recent start.
+     */
+    static long withStartTime(final int primary, final Instant startTime) {
+        final long micros = Math.max(0, ChronoUnit.MICROS.between(Instant.EPOCH, startTime));
+        return (long) Math.clamp(primary, 0, MAX_PRIMARY) << 53 | Math.min(micros, (1L << 53) - 1);
+    }
+}
@@ -0,0 +1,130 @@
+package com.hanabezdrob.scoreboard;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+import static java.lang.String.format;
+
+/**
+ * In-process {@link ScoreboardMetrics}: a {@link LatencyHistogram} per operation, a counter per rejection reason
+ * and a live-match gauge, readable directly or over JMX once {@link #register registered}. One instance may be
+ * shared by several boards to aggregate them.
+ */
+public class RecordingScoreboardMetrics implements ScoreboardMetrics, ScoreboardMetricsMXBean {
+    /** JMX domain of registered metrics. */
+    public static final String JMX_DOMAIN = "com.hanabezdrob.scoreboard";
+
+    private final Map<Operation, LatencyHistogram> latencies = new EnumMap<>(Operation.class);
+    private final Map<ValidationResult, LongAdder> rejections = new EnumMap<>(ValidationResult.class);
+    private final AtomicLong liveMatches = new AtomicLong();
+
+    public RecordingScoreboardMetrics() {
+        for (final Operation operation : Operation.values()) {
+            latencies.put(operation, new LatencyHistogram());
+        }
+        for (final ValidationResult result : ValidationResult.values()) {
+            if (!result.isOk()) {
+                rejections.put(result, new LongAdder());
+            }
+        }
+    }
+
+    @Override
+    public void recordLatency(final Operation operation, final long nanos) {
+        latencies.get(operation).record(nanos);
+    }
+
+    @Override
+    public void recordRejection(final ValidationResult result) {
+        rejections.get(result).increment();
+    }
+
+    @Override
+    public void recordLiveMatchesChange(final int delta) {
+        liveMatches.addAndGet(delta);
+    }
+
+    /** @return latency histogram of {@code operation}, in nanoseconds */
+    public LatencyHistogram latency(final Operation operation) {
+        return latencies.get(operation);
+    }
+
+    /** @return number of rejections with {@code result} */
+    public long rejections(final ValidationResult result) {
+        return rejections.get(result).sum();
+    }
+
+    @Override
+    public long getLiveMatches() {
+        return liveMatches.get();
+    }
+
+    @Override
+    public Map<String, Long> getOperationCounts() {
+        return byOperation(LatencyHistogram::count);
+    }
+
+    @Override
+    public Map<String, Long> getLatencyP50Nanos() {
+        return byOperation(histogram -> histogram.percentile(50));
+    }
+
+    @Override
+    public Map<String, Long> getLatencyP99Nanos() {
+        return byOperation(histogram -> histogram.percentile(99));
+    }
+
+    @Override
+    public Map<String, Long> getLatencyP999Nanos() {
+        return byOperation(histogram -> histogram.percentile(99.9));
+    }
+
+    @Override
+    public Map<String, Long> getLatencyMaxNanos() {
+        return byOperation(LatencyHistogram::max);
+    }
+
+    @Override
+    public Map<String, Long> getRejectionCounts() {
+        final Map<String, Long> counts = new LinkedHashMap<>();
+        rejections.forEach((result, count) -> counts.put(result.name(), count.sum()));
+        return counts;
+    }
+
+    @Override
+    public void reset() {
+        latencies.values().forEach(LatencyHistogram::reset);
+        rejections.values().forEach(LongAdder::reset);
+    }
+
+    /**
+     * Registers these metrics with the platform MBean server as
+     * {@code com.hanabezdrob.scoreboard:type=ScoreboardMetrics,name=<name>}.
+     *
+     * @return the registered name, for unregistering
+     * @throws IllegalStateException if the name is taken or invalid
+     */
+    public ObjectName register(final String name) {
+        try {
+            final ObjectName objectName = new ObjectName(
+                    format("%s:type=ScoreboardMetrics,name=%s", JMX_DOMAIN, ObjectName.quote(name)));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+            return objectName;
+        } catch (final JMException e) {
+            throw new IllegalStateException(format("Could not register metrics %s", name), e);
+        }
+    }
+
+    private Map<String, Long> byOperation(final ToLongFunction<LatencyHistogram> value) {
+        final Map<String, Long> values = new LinkedHashMap<>();
+        latencies.forEach((operation, histogram) -> values.put(operation.name(), value.applyAsLong(histogram)));
+        return values;
+    }
+}
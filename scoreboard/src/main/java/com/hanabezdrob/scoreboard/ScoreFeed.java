@@ -0,0 +1,21 @@
+package com.hanabezdrob.scoreboard;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * A provider connection read by {@link FeedIngestionPipeline}, one virtual thread per feed, so {@link #next()} may
+ * simply block on I/O.
+ */
+public interface ScoreFeed extends Closeable {
+    /**
+     * @return the next parsed message, or null once the feed has ended
+     * @throws IOException if the connection fails; the pipeline stops reading this feed
+     */
+    FeedMessage next() throws IOException;
+
+    /** Releases the connection, unblocking a pending {@link #next()} where the transport allows it. */
+    @Override
+    default void close() throws IOException {
+    }
+}
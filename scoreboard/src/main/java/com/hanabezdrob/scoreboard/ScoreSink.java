@@ -0,0 +1,10 @@
+package com.hanabezdrob.scoreboard;
+
+/**
+ * Target of {@link FeedIngestionPipeline} writers, typically {@code Scoreboard::ingestScore} or
+ * {@code ConcurrentScoreboard::ingestScore}. Must be thread-safe when the pipeline has more than one writer.
+ */
+@FunctionalInterface
+public interface ScoreSink {
+    IngestResult ingestScore(final long matchId, final long sequence, final Score score);
+}
@@ -0,0 +1,16 @@
+package com.hanabezdrob.scoreboard;
+
+import java.util.Objects;
+
+/**
+ * A requested score change for one live match, used by batch updates.
+ *
+ * @param match current snapshot of the live match, {@link Match}, non-null
+ * @param score new score, {@link Score}, non-null
+ */
+public record ScoreUpdate(Match match, Score score) {
+    public ScoreUpdate {
+        Objects.requireNonNull(match, "Match must not be null");
+        Objects.requireNonNull(score, "Score must not be null");
+    }
+}
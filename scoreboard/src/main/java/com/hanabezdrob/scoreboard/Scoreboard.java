@@ -1,9 +1,28 @@
 package com.hanabezdrob.scoreboard;
 
+import java.time.Clock;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+
+import static java.lang.String.format;
 
 /**
  * Manages the lifecycle of live football matches: start, update, finish, and summary printing.
@@ -15,20 +34,77 @@ import java.util.List;
  *   <li>Scores less or equal to MAX_SCORE</li>
  * </ul>
  * </p>
+ *
+ * <p>Every started match gets a stable id that survives score updates. Live matches are indexed by id
+ * and by team name, so starting, updating and finishing a match never scan the board.</p>
+ *
+ * <p>Boards built with {@link ScoreboardMetrics} report operation latencies, rejections and the number of live
+ * matches; without them nothing is measured.</p>
  */
 public class Scoreboard {
     public static final int MAX_SCORE = 30;
     public static final int MAX_DELTA = 5;
+    /** Number of most recent changes kept for {@link #getSummaryChangesSince}. */
+    public static final int CHANGE_HISTORY_SIZE = 4096;
+
+    /** Summary ordering: total goals desc, then startTime desc. */
+    static final Comparator<Match> SUMMARY_ORDER = Comparator
+            .comparingInt((final Match m) -> m.score().total()).reversed()
+            .thenComparing(Match::startTime, Comparator.reverseOrder());
+
+    /** Ties in {@link #SUMMARY_ORDER} fall back to start order, matching a stable sort of the matches in progress. */
+    private static final Comparator<LiveMatch> SUMMARY_INDEX_ORDER = Comparator
+            .comparing((final LiveMatch live) -> live.match, SUMMARY_ORDER)
+            .thenComparingLong(live -> live.id);
+
+    private static final long[] EMPTY_KEYS = new long[0];
 
     private final MatchValidator validator;
-    private final List<Match> matches = new ArrayList<>();
+    private final ScoreboardMetrics metrics;
+    private final boolean instrumented;
+    private final Clock clock;
+    private final Map<Long, LiveMatch> matchesById = new LinkedHashMap<>();
+    private final Map<String, LiveMatch> matchesByTeam = new HashMap<>();
+    private final NavigableSet<LiveMatch> summaryIndex = new TreeSet<>(SUMMARY_INDEX_ORDER);
+    private final LiveMatchIndex liveMatchIndex = new TeamIndex();
+    private final List<ScoreboardListener> listeners = new CopyOnWriteArrayList<>();
+    private final Deque<Change> changes = new ArrayDeque<>();
+    private final Map<String, Ranking> rankings = new LinkedHashMap<>();
+    private Ranking[] rankingSlots = new Ranking[0];
+    private long nextMatchId = 1;
+    private long version;
+    private long historyFloor;
+    private List<Match> summary = List.of();
+    private List<Match> matchesInProgress = List.of();
+    private ScoreboardEventPublisher publisher;
 
     public Scoreboard() {
-        this.validator = new FootballMatchValidator();
+        this(new FootballMatchValidator());
     }
 
     public Scoreboard(final MatchValidator validator) {
+        this(validator, ScoreboardMetrics.NOOP);
+    }
+
+    /** Instrumented board with the default validator, which reports its rejections to {@code metrics} as well. */
+    public Scoreboard(final ScoreboardMetrics metrics) {
+        this(new FootballMatchValidator(metrics), metrics);
+    }
+
+    public Scoreboard(final MatchValidator validator, final ScoreboardMetrics metrics) {
+        this(validator, metrics, Clock.systemUTC());
+    }
+
+    /** Board whose start times come from {@code clock}, for scheduled lifecycles and tests. */
+    public Scoreboard(final Clock clock) {
+        this(new FootballMatchValidator(), ScoreboardMetrics.NOOP, clock);
+    }
+
+    public Scoreboard(final MatchValidator validator, final ScoreboardMetrics metrics, final Clock clock) {
         this.validator = validator;
+        this.metrics = Objects.requireNonNull(metrics, "Metrics must not be null");
+        this.instrumented = metrics != ScoreboardMetrics.NOOP;
+        this.clock = Objects.requireNonNull(clock, "Clock must not be null");
     }
 
     /**
@@ -38,11 +114,28 @@ public class Scoreboard {
      * @throws IllegalArgumentException or NullPointerException for invalid names
      */
     public Match startMatch(final String homeTeam, final String awayTeam) {
-        validator.validateNewMatch(homeTeam, awayTeam, matches);
-        final Match match = new Match(homeTeam, awayTeam);
-        matches.add(match);
+        final long startNanos = startTiming();
+        try {
+            validator.validateNewMatch(homeTeam, awayTeam, liveMatchIndex);
+            return place(homeTeam, awayTeam).match;
+        } finally {
+            stopTiming(ScoreboardMetrics.Operation.START_MATCH, startNanos);
+        }
+    }
 
-        return match;
+    /**
+     * Non-throwing {@link #startMatch}: a rejection is returned as a shared result constant, so rejected starts
+     * allocate nothing. The started match can be read with {@link #findMatchByTeam}.
+     *
+     * @return {@link ValidationResult#OK} if the match was started, otherwise the violated rule
+     */
+    public ValidationResult tryStartMatch(final String homeTeam, final String awayTeam) {
+        final long startNanos = startTiming();
+        try {
+            return start(homeTeam, awayTeam);
+        } finally {
+            stopTiming(ScoreboardMetrics.Operation.START_MATCH, startNanos);
+        }
     }
 
     /**
@@ -52,40 +145,704 @@ public class Scoreboard {
      * MAX_SCORE is exceeded, or scores jump by more than MAX_DELTA
      */
     public Match updateMatchScore(final Match match, final Score score) {
-        int idx = matches.indexOf(match);
-        if (idx < 0) {
-            throw new IllegalArgumentException("Match not found");
+        final long startNanos = startTiming();
+        try {
+            final LiveMatch live = resolveUpdate(match, score);
+            if (live != null) {
+                applyUpdate(live, score);
+            }
+            return live == null ? match : live.match;
+        } finally {
+            stopTiming(ScoreboardMetrics.Operation.UPDATE_SCORE, startNanos);
         }
+    }
 
-        if (score.equals(match.score())) {
-            return match;
+    /**
+     * Non-throwing {@link #updateMatchScore}: a rejection, including an unknown or stale {@code match}, is returned
+     * as a shared result constant, so rejected updates allocate nothing. The updated match can be read with
+     * {@link #findMatchByTeam}.
+     *
+     * @return {@link ValidationResult#OK} if the score was applied or unchanged, otherwise the violated rule
+     */
+    public ValidationResult tryUpdateScore(final Match match, final Score score) {
+        final long startNanos = startTiming();
+        try {
+            return update(lookup(match), match, score);
+        } finally {
+            stopTiming(ScoreboardMetrics.Operation.UPDATE_SCORE, startNanos);
         }
+    }
 
-        validator.validateScoreUpdate(match, score);
+    /**
+     * Applies a score from a sequenced feed. Messages whose {@code sequence} is not above the last one accepted for
+     * the match are dropped before validation, so resends and out-of-order deliveries cost one lookup and never
+     * throw; only newer scores go through the validator. Sequences are tracked per live match in memory, are
+     * independent of {@link #updateMatchScore} and are not journaled.
+     *
+     * @return what happened to the message
+     */
+    public IngestResult ingestScore(final long matchId, final long sequence, final Score score) {
+        final long startNanos = startTiming();
+        try {
+            return ingest(matchId, sequence, score);
+        } finally {
+            stopTiming(ScoreboardMetrics.Operation.UPDATE_SCORE, startNanos);
+        }
+    }
+
+    /**
+     * Validates and applies many score updates in one pass. Each update behaves like a single
+     * {@link #updateMatchScore} call, so a later update in the batch must reference the snapshot produced by an
+     * earlier one for the same match. Rejected updates are reported instead of thrown; cached summaries are
+     * only rebuilt on the next read, not once per update.
+     */
+    public BatchUpdateResult updateMatchScores(final Collection<ScoreUpdate> updates) {
+        final List<Match> updated = new ArrayList<>(updates.size());
+        final List<BatchUpdateResult.Failure> failures = new ArrayList<>();
 
-        final Match updated = new Match(match.homeTeam(), match.awayTeam(), score, match.startTime());
-        matches.set(idx, updated);
+        for (final ScoreUpdate update : updates) {
+            try {
+                final LiveMatch live = resolveUpdate(update.match(), update.score());
+                if (live == null) {
+                    updated.add(update.match());
+                } else {
+                    applyUpdate(live, update.score());
+                    updated.add(live.match);
+                }
+            } catch (final IllegalArgumentException | IllegalStateException e) {
+                failures.add(new BatchUpdateResult.Failure(update, e));
+            }
+        }
 
-        return updated;
+        return new BatchUpdateResult(updated, failures);
+    }
+
+    /**
+     * All-or-nothing variant of {@link #updateMatchScores}: every update is validated against the current board
+     * before any is applied, and each match may appear at most once.
+     *
+     * @return new snapshots, in batch order
+     * @throws IllegalArgumentException if any update would be rejected or a match appears twice; nothing is applied
+     */
+    public List<Match> updateMatchScoresAtomically(final Collection<ScoreUpdate> updates) {
+        final List<LiveMatch> targets = new ArrayList<>(updates.size());
+        final Set<Long> seen = new HashSet<>();
+        for (final ScoreUpdate update : updates) {
+            final LiveMatch live = resolveUpdate(update.match(), update.score());
+            final long id = live == null ? getMatchId(update.match()) : live.id;
+            if (!seen.add(id)) {
+                throw new IllegalArgumentException(format("Match %s appears more than once in batch", update.match()));
+            }
+            targets.add(live);
+        }
+
+        final List<Match> updated = new ArrayList<>(targets.size());
+        int i = 0;
+        for (final ScoreUpdate update : updates) {
+            final LiveMatch live = targets.get(i++);
+            if (live == null) {
+                updated.add(update.match());
+            } else {
+                applyUpdate(live, update.score());
+                updated.add(live.match);
+            }
+        }
+        return List.copyOf(updated);
     }
 
     /** Removes the match - does nothing if match is not found. */
     public void finishMatch(final Match match) {
-        matches.remove(match);
+        final long startNanos = startTiming();
+        try {
+            finish(match);
+        } finally {
+            stopTiming(ScoreboardMetrics.Operation.FINISH_MATCH, startNanos);
+        }
     }
 
-    /** @return unmodifiable list of live matches ordered by total goals desc, then startTime desc. */
+    /**
+     * The summary is backed by an index kept sorted on every start, update and finish; the returned
+     * snapshot is cached and only rebuilt after the board changes.
+     *
+     * @return unmodifiable list of live matches ordered by total goals desc, then startTime desc.
+     */
     public List<Match> getSummary() {
-        return matches.stream()
-                .sorted(Comparator
-                        .comparingInt((final Match m) -> m.score().total()).reversed()
-                        .thenComparing(Match::startTime, Comparator.reverseOrder())
-                )
-                .toList();
+        final long startNanos = startTiming();
+        try {
+            return summary();
+        } finally {
+            stopTiming(ScoreboardMetrics.Operation.GET_SUMMARY, startNanos);
+        }
+    }
+
+    /**
+     * Top of {@link #getSummary()} without building the full list: reads the first {@code k} entries of the sorted
+     * index, or slices the cached summary when it is up to date.
+     *
+     * @return unmodifiable list of at most {@code k} live matches in summary order
+     * @throws IllegalArgumentException if {@code k} is negative
+     */
+    public List<Match> getTopMatches(final int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("Number of matches must not be negative");
+        }
+        if (summary != null) {
+            return summary.subList(0, Math.min(k, summary.size()));
+        }
+
+        final List<Match> top = new ArrayList<>(Math.min(k, summaryIndex.size()));
+        for (final LiveMatch live : summaryIndex) {
+            if (top.size() == k) {
+                break;
+            }
+            top.add(live.match);
+        }
+        return Collections.unmodifiableList(top);
+    }
+
+    /**
+     * Adds a ranking kept alongside the summary: every start, score change and finish updates its index, so reading
+     * it never sorts the board.
+     *
+     * @throws IllegalArgumentException if a ranking called {@code name} already exists
+     */
+    public void addRanking(final String name, final RankingStrategy strategy) {
+        Objects.requireNonNull(name, "Ranking name must not be null");
+        Objects.requireNonNull(strategy, "Ranking strategy must not be null");
+        if (rankings.containsKey(name)) {
+            throw new IllegalArgumentException(format("Ranking %s already exists", name));
+        }
+
+        int slot = 0;
+        while (slot < rankingSlots.length && rankingSlots[slot] != null) {
+            slot++;
+        }
+        if (slot == rankingSlots.length) {
+            rankingSlots = Arrays.copyOf(rankingSlots, slot + 1);
+        }
+        final Ranking ranking = new Ranking(slot, strategy);
+        rankingSlots[slot] = ranking;
+        rankings.put(name, ranking);
+        for (final LiveMatch live : matchesById.values()) {
+            ranking.add(live);
+        }
+    }
+
+    /** Drops the ranking called {@code name} - does nothing if there is none. */
+    public void removeRanking(final String name) {
+        final Ranking ranking = rankings.remove(name);
+        if (ranking != null) {
+            rankingSlots[ranking.slot] = null;
+        }
+    }
+
+    /** @return names of the rankings, in the order they were added */
+    public Set<String> getRankingNames() {
+        return Collections.unmodifiableSet(rankings.keySet());
+    }
+
+    /**
+     * @return unmodifiable list of live matches in the order of ranking {@code name}, cached until the board changes
+     * @throws IllegalArgumentException if there is no ranking called {@code name}
+     */
+    public List<Match> getRanking(final String name) {
+        return ranking(name).matches();
+    }
+
+    /**
+     * Head of {@link #getRanking(String)} without building the full list.
+     *
+     * @return unmodifiable list of at most {@code k} live matches in the order of ranking {@code name}
+     * @throws IllegalArgumentException if {@code k} is negative or there is no ranking called {@code name}
+     */
+    public List<Match> getRanking(final String name, final int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("Number of matches must not be negative");
+        }
+        final Ranking ranking = ranking(name);
+        if (ranking.matches != null) {
+            return ranking.matches.subList(0, Math.min(k, ranking.matches.size()));
+        }
+
+        final List<Match> top = new ArrayList<>(Math.min(k, ranking.index.size()));
+        for (final LiveMatch live : ranking.index) {
+            if (top.size() == k) {
+                break;
+            }
+            top.add(live.match);
+        }
+        return Collections.unmodifiableList(top);
     }
 
     /** @return unmodifiable list of matches in progress. */
     public List<Match> getMatchesInProgress() {
-        return Collections.unmodifiableList(matches);
+        if (matchesInProgress == null) {
+            matchesInProgress = matchesById.values().stream().map(live -> live.match).toList();
+        }
+        return matchesInProgress;
+    }
+
+    /**
+     * @return the stable id assigned to {@code match} when it was started
+     * @throws IllegalArgumentException if match is not found
+     */
+    public long getMatchId(final Match match) {
+        final LiveMatch live = lookup(match);
+        if (live == null) {
+            throw new IllegalArgumentException("Match not found");
+        }
+        return live.id;
+    }
+
+    /** @return the current snapshot of the live match with {@code matchId}, or empty if it is not live. */
+    public Optional<Match> findMatch(final long matchId) {
+        final LiveMatch live = matchesById.get(matchId);
+        return live == null ? Optional.empty() : Optional.of(live.match);
+    }
+
+    /** @return the current snapshot of the live match {@code team} plays in, or empty if the team is not playing. */
+    public Optional<Match> findMatchByTeam(final String team) {
+        return liveMatchIndex.findByTeam(team);
+    }
+
+    /** @return board version, incremented by every start, score change and finish */
+    public long getVersion() {
+        return version;
+    }
+
+    /** @return clock that supplies the start time of new matches */
+    public Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * Computes what changed in the summary since a client last saw it at {@code sinceVersion}: added, changed and
+     * removed matches and the matches whose rank moved. Versions older than the last {@link #CHANGE_HISTORY_SIZE}
+     * changes yield a {@code full} delta carrying the whole summary.
+     *
+     * @throws IllegalArgumentException if {@code sinceVersion} is negative or newer than {@link #getVersion()}
+     */
+    public SummaryDelta getSummaryChangesSince(final long sinceVersion) {
+        if (sinceVersion < 0 || sinceVersion > version) {
+            throw new IllegalArgumentException(format("Unknown version %d", sinceVersion));
+        }
+        if (sinceVersion < historyFloor) {
+            return SummaryDelta.full(sinceVersion, version, summary());
+        }
+
+        // Walking back from the newest change leaves each touched match mapped to its state at sinceVersion.
+        final Map<Long, Match> previous = new HashMap<>();
+        final Iterator<Change> newestFirst = changes.descendingIterator();
+        while (newestFirst.hasNext()) {
+            final Change change = newestFirst.next();
+            if (change.version() <= sinceVersion) {
+                break;
+            }
+            previous.put(change.matchId(), change.before());
+        }
+        if (previous.isEmpty()) {
+            return new SummaryDelta(sinceVersion, version, false, List.of(), List.of(), List.of(), List.of());
+        }
+
+        final List<Match> added = new ArrayList<>();
+        final List<Match> changed = new ArrayList<>();
+        final List<Match> removed = new ArrayList<>();
+        final List<LiveMatch> previousBoard = new ArrayList<>(summaryIndex.size());
+        for (final LiveMatch live : summaryIndex) {
+            if (!previous.containsKey(live.id)) {
+                previousBoard.add(live);
+            }
+        }
+        for (final Map.Entry<Long, Match> entry : previous.entrySet()) {
+            final Match before = entry.getValue();
+            final LiveMatch live = matchesById.get(entry.getKey());
+            if (before != null) {
+                previousBoard.add(new LiveMatch(entry.getKey(), before));
+            }
+            if (before == null && live != null) {
+                added.add(live.match);
+            } else if (before != null && live == null) {
+                removed.add(before);
+            } else if (before != null && !before.equals(live.match)) {
+                changed.add(live.match);
+            }
+        }
+
+        previousBoard.sort(SUMMARY_INDEX_ORDER);
+        final Map<Long, Integer> previousRanks = new HashMap<>();
+        for (int rank = 0; rank < previousBoard.size(); rank++) {
+            previousRanks.put(previousBoard.get(rank).id, rank);
+        }
+        final List<SummaryDelta.RankMove> moved = new ArrayList<>();
+        int rank = 0;
+        for (final LiveMatch live : summaryIndex) {
+            final Integer previousRank = previousRanks.get(live.id);
+            if (previousRank != null && previousRank != rank) {
+                moved.add(new SummaryDelta.RankMove(live.match, previousRank, rank));
+            }
+            rank++;
+        }
+
+        return new SummaryDelta(sinceVersion, version, false, added, changed, removed, moved);
+    }
+
+    /**
+     * Registers a listener called synchronously, on the updating thread, after every start, score change and finish.
+     */
+    public void addListener(final ScoreboardListener listener) {
+        listeners.add(Objects.requireNonNull(listener, "Listener must not be null"));
+    }
+
+    public void removeListener(final ScoreboardListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * @return publisher of this board's events, created and registered on first use with the default
+     * {@link ScoreboardEventPublisher} settings. Slow subscribers get per-match conflated buffers that stay
+     * within twice the live matches, are never cancelled and never hold up board updates.
+     */
+    public synchronized Flow.Publisher<ScoreboardEvent> events() {
+        if (publisher == null) {
+            publisher = new ScoreboardEventPublisher();
+            addListener(publisher);
+        }
+        return publisher;
+    }
+
+    /**
+     * Recovery hook: puts {@code match} on the board under {@code matchId}, replacing the match with that id if there
+     * is one. Bypasses validation, events and change history.
+     */
+    void restoreMatch(final long matchId, final Match match) {
+        LiveMatch live = matchesById.get(matchId);
+        if (live == null) {
+            live = new LiveMatch(matchId, match);
+            matchesById.put(matchId, live);
+            matchesByTeam.put(match.homeTeam(), live);
+            matchesByTeam.put(match.awayTeam(), live);
+            onLiveMatchesChanged(1);
+        } else {
+            summaryIndex.remove(live);
+            removeFromRankings(live);
+            live.match = match;
+        }
+        live.lastChange = version;
+        summaryIndex.add(live);
+        addToRankings(live);
+        nextMatchId = Math.max(nextMatchId, matchId + 1);
+        onBoardChanged();
+    }
+
+    /** Recovery hook: removes the match with {@code matchId} without events or change history. */
+    void restoreFinish(final long matchId) {
+        final LiveMatch live = matchesById.remove(matchId);
+        if (live != null) {
+            summaryIndex.remove(live);
+            removeFromRankings(live);
+            matchesByTeam.remove(live.match.homeTeam());
+            matchesByTeam.remove(live.match.awayTeam());
+            onBoardChanged();
+            onLiveMatchesChanged(-1);
+        }
+    }
+
+    /** Recovery hook: live matches keyed by id, read straight from the index rather than the cached views. */
+    Map<Long, Match> liveMatchesById() {
+        final Map<Long, Match> matches = new LinkedHashMap<>(matchesById.size() * 2);
+        for (final LiveMatch live : matchesById.values()) {
+            matches.put(live.id, live.match);
+        }
+        return matches;
+    }
+
+    /** @return id the next started match will get */
+    long nextMatchId() {
+        return nextMatchId;
+    }
+
+    void restoreNextMatchId(final long matchId) {
+        nextMatchId = Math.max(nextMatchId, matchId);
+    }
+
+    private ValidationResult start(final String homeTeam, final String awayTeam) {
+        final ValidationResult result = validator.checkNewMatch(homeTeam, awayTeam, liveMatchIndex);
+        if (result.isOk()) {
+            place(homeTeam, awayTeam);
+        }
+        return result;
+    }
+
+    /** Puts a validated new match on the board. */
+    private LiveMatch place(final String homeTeam, final String awayTeam) {
+        final LiveMatch live = new LiveMatch(nextMatchId++,
+                new Match(homeTeam, awayTeam, new Score(0, 0), clock.instant()));
+        matchesById.put(live.id, live);
+        matchesByTeam.put(homeTeam, live);
+        matchesByTeam.put(awayTeam, live);
+        summaryIndex.add(live);
+        recordChange(live.id, null);
+        live.lastChange = version;
+        addToRankings(live);
+        onBoardChanged();
+        onLiveMatchesChanged(1);
+        if (!listeners.isEmpty()) {
+            publish(new ScoreboardEvent.MatchStarted(live.id, live.match));
+        }
+        return live;
+    }
+
+    /** Validates and applies an update of {@code match}, held by {@code live} or null if it is not live. */
+    private ValidationResult update(final LiveMatch live, final Match match, final Score score) {
+        final ValidationResult result = checkUpdate(live, match, score);
+        if (result.isOk() && !score.equals(match.score())) {
+            applyUpdate(live, score);
+        }
+        return result;
+    }
+
+    private void finish(final Match match) {
+        final LiveMatch live = lookup(match);
+        if (live == null) {
+            return;
+        }
+
+        summaryIndex.remove(live);
+        removeFromRankings(live);
+        matchesById.remove(live.id);
+        matchesByTeam.remove(match.homeTeam());
+        matchesByTeam.remove(match.awayTeam());
+        recordChange(live.id, match);
+        onBoardChanged();
+        onLiveMatchesChanged(-1);
+        if (!listeners.isEmpty()) {
+            publish(new ScoreboardEvent.MatchFinished(live.id, match));
+        }
+    }
+
+    private List<Match> summary() {
+        if (summary == null) {
+            summary = summaryIndex.stream().map(live -> live.match).toList();
+        }
+        return summary;
+    }
+
+    private IngestResult ingest(final long matchId, final long sequence, final Score score) {
+        final LiveMatch live = matchesById.get(matchId);
+        if (live == null) {
+            if (instrumented) {
+                metrics.recordRejection(ValidationResult.NOT_FOUND);
+            }
+            return IngestResult.NOT_FOUND;
+        }
+        if (sequence <= live.lastSequence) {
+            return sequence == live.lastSequence ? IngestResult.DUPLICATE : IngestResult.STALE;
+        }
+
+        if (score.equals(live.match.score())) {
+            live.lastSequence = sequence;
+            return IngestResult.UNCHANGED;
+        }
+        if (!validator.checkScoreUpdate(live.match, score).isOk()) {
+            return IngestResult.REJECTED;
+        }
+
+        live.lastSequence = sequence;
+        applyUpdate(live, score);
+        return IngestResult.APPLIED;
+    }
+
+    /**
+     * Looks up and validates a score update without applying it.
+     *
+     * @return the entry to update, or null if {@code score} equals the current score
+     * @throws IllegalArgumentException if match is not found or the validator rejects the update
+     */
+    private LiveMatch resolveUpdate(final Match match, final Score score) {
+        final LiveMatch live = lookup(match);
+        if (live == null) {
+            if (instrumented) {
+                metrics.recordRejection(ValidationResult.NOT_FOUND);
+            }
+            throw ValidationResult.NOT_FOUND.scoreUpdateException(match, score);
+        }
+        if (score.equals(match.score())) {
+            return null;
+        }
+        validator.validateScoreUpdate(match, score);
+        return live;
+    }
+
+    private ValidationResult checkUpdate(final LiveMatch live, final Match match, final Score score) {
+        if (live == null) {
+            if (instrumented) {
+                metrics.recordRejection(ValidationResult.NOT_FOUND);
+            }
+            return ValidationResult.NOT_FOUND;
+        }
+        return score.equals(match.score()) ? ValidationResult.OK : validator.checkScoreUpdate(match, score);
+    }
+
+    private void applyUpdate(final LiveMatch live, final Score score) {
+        final Match match = live.match;
+        summaryIndex.remove(live);
+        removeFromRankings(live);
+        live.match = new Match(match.homeTeam(), match.awayTeam(), score, match.startTime());
+        summaryIndex.add(live);
+        recordChange(live.id, match);
+        live.lastChange = version;
+        addToRankings(live);
+        onBoardChanged();
+        if (!listeners.isEmpty()) {
+            publish(new ScoreboardEvent.ScoreUpdated(live.id, match, live.match));
+        }
+    }
+
+    private void recordChange(final long matchId, final Match before) {
+        changes.addLast(new Change(++version, matchId, before));
+        if (changes.size() > CHANGE_HISTORY_SIZE) {
+            historyFloor = changes.removeFirst().version();
+        }
+    }
+
+    private void publish(final ScoreboardEvent event) {
+        for (final ScoreboardListener listener : listeners) {
+            listener.onEvent(event);
+        }
+    }
+
+    /** @return the live entry holding exactly {@code match}, or null for unknown or stale snapshots. */
+    private LiveMatch lookup(final Match match) {
+        if (match == null) {
+            return null;
+        }
+        final LiveMatch live = matchesByTeam.get(match.homeTeam());
+        return live != null && live.match.equals(match) ? live : null;
+    }
+
+    private Ranking ranking(final String name) {
+        final Ranking ranking = rankings.get(name);
+        if (ranking == null) {
+            throw new IllegalArgumentException(format("Unknown ranking %s", name));
+        }
+        return ranking;
+    }
+
+    private void addToRankings(final LiveMatch live) {
+        for (final Ranking ranking : rankingSlots) {
+            if (ranking != null) {
+                ranking.add(live);
+            }
+        }
+    }
+
+    /** Must run before {@code live} changes, while its stored keys still locate it in each index. */
+    private void removeFromRankings(final LiveMatch live) {
+        for (final Ranking ranking : rankingSlots) {
+            if (ranking != null) {
+                ranking.index.remove(live);
+            }
+        }
+    }
+
+    private void onBoardChanged() {
+        summary = null;
+        matchesInProgress = null;
+        for (final Ranking ranking : rankingSlots) {
+            if (ranking != null) {
+                ranking.matches = null;
+            }
+        }
+    }
+
+    private long startTiming() {
+        return instrumented ? System.nanoTime() : 0;
+    }
+
+    private void stopTiming(final ScoreboardMetrics.Operation operation, final long startNanos) {
+        if (instrumented) {
+            metrics.recordLatency(operation, System.nanoTime() - startNanos);
+        }
+    }
+
+    private void onLiveMatchesChanged(final int delta) {
+        if (instrumented) {
+            metrics.recordLiveMatchesChange(delta);
+        }
+    }
+
+    /** One board change; {@code before} is null for a start. The state after is read from the board itself. */
+    private record Change(long version, long matchId, Match before) {
+    }
+
+    /**
+     * Named ranking: an index ordered by the keys its strategy computed, stored in slot {@code slot} of every
+     * {@link LiveMatch#rankingKeys}, and the list built from it, cached until the board changes.
+     */
+    private static final class Ranking {
+        private final int slot;
+        private final RankingStrategy strategy;
+        private final NavigableSet<LiveMatch> index;
+        private List<Match> matches;
+
+        private Ranking(final int slot, final RankingStrategy strategy) {
+            this.slot = slot;
+            this.strategy = strategy;
+            this.index = new TreeSet<>((a, b) -> {
+                final int byKey = Long.compare(b.rankingKeys[slot], a.rankingKeys[slot]);
+                return byKey != 0 ? byKey : Long.compare(a.id, b.id);
+            });
+        }
+
+        private void add(final LiveMatch live) {
+            if (live.rankingKeys.length <= slot) {
+                live.rankingKeys = Arrays.copyOf(live.rankingKeys, slot + 1);
+            }
+            live.rankingKeys[slot] = strategy.sortKey(live.match, live.lastChange);
+            index.add(live);
+        }
+
+        private List<Match> matches() {
+            if (matches == null) {
+                matches = index.stream().map(live -> live.match).toList();
+            }
+            return matches;
+        }
+    }
+
+    /**
+     * Mutable slot for a live match: the id is stable, the snapshot is replaced on every score change and
+     * {@code lastSequence} is the newest feed sequence accepted by {@link #ingestScore}. {@code lastChange} is the
+     * board version of its start or latest score change, and {@code rankingKeys} its key in each ranking.
+     */
+    private static final class LiveMatch {
+        private final long id;
+        private Match match;
+        private long lastSequence = Long.MIN_VALUE;
+        private long lastChange;
+        private long[] rankingKeys = EMPTY_KEYS;
+
+        private LiveMatch(final long id, final Match match) {
+            this.id = id;
+            this.match = match;
+        }
+    }
+
+    private final class TeamIndex implements LiveMatchIndex {
+        @Override
+        public boolean isPlaying(final String team) {
+            return matchesByTeam.containsKey(team);
+        }
+
+        @Override
+        public Optional<Match> findByTeam(final String team) {
+            final LiveMatch live = matchesByTeam.get(team);
+            return live == null ? Optional.empty() : Optional.of(live.match);
+        }
+
+        @Override
+        public Iterable<Match> matches() {
+            return getMatchesInProgress();
+        }
     }
 }
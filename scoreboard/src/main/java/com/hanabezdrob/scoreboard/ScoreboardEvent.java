@@ -0,0 +1,34 @@
+package com.hanabezdrob.scoreboard;
+
+/**
+ * Change published by a {@link Scoreboard} whenever a match starts, scores or finishes.
+ */
+public sealed interface ScoreboardEvent {
+    /**
+     * @return stable id of the match the event refers to
+     */
+    long matchId();
+
+    /**
+     * @return snapshot of the match after the change
+     */
+    Match match();
+
+    /**
+     * A new 0–0 match went live.
+     */
+    record MatchStarted(long matchId, Match match) implements ScoreboardEvent {
+    }
+
+    /**
+     * The score of a live match changed from {@code previous} to {@code match}.
+     */
+    record ScoreUpdated(long matchId, Match previous, Match match) implements ScoreboardEvent {
+    }
+
+    /**
+     * A match was finished and removed from the board; {@code match} is its final snapshot.
+     */
+    record MatchFinished(long matchId, Match match) implements ScoreboardEvent {
+    }
+}
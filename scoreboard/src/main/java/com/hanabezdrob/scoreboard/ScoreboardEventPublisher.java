@@ -0,0 +1,241 @@
+package com.hanabezdrob.scoreboard;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.lang.String.format;
+
+/**
+ * {@link Flow.Publisher} of board events that never makes the board wait for a subscriber.
+ *
+ * <p>Every subscriber has its own buffer conflated per match: pending score updates for a match collapse into one
+ * {@link ScoreboardEvent.ScoreUpdated} spanning from the first pending previous snapshot to the latest one, and a
+ * pending finish supersedes pending updates. A finish whose start is still pending cancels it, so a match the
+ * subscriber never saw leaves nothing behind. A buffer therefore holds one entry per live match the subscriber has
+ * not caught up on plus one per finished match it last saw live, never more than twice the matches live at once,
+ * however many start and finish meanwhile. Buffers are bounded only by that by default; a publisher built with
+ * {@code maxPendingMatches} opts into cancelling subscribers that fall further behind, see {@link #subscribe}.
+ * Events are delivered on the supplied {@link Executor}.</p>
+ */
+public class ScoreboardEventPublisher implements Flow.Publisher<ScoreboardEvent>, ScoreboardListener {
+    /** {@code maxPendingMatches} that never cancels a subscriber. */
+    public static final int UNBOUNDED = Integer.MAX_VALUE;
+
+    private final Executor executor;
+    private final int maxPendingMatches;
+    private final CopyOnWriteArrayList<ConflatingSubscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    /** Publisher delivering on the common pool that never cancels a slow subscriber. */
+    public ScoreboardEventPublisher() {
+        this(ForkJoinPool.commonPool(), UNBOUNDED);
+    }
+
+    /**
+     * @param maxPendingMatches distinct matches a subscriber may fall behind on before it is cancelled, or
+     *                          {@link #UNBOUNDED}
+     */
+    public ScoreboardEventPublisher(final Executor executor, final int maxPendingMatches) {
+        if (maxPendingMatches <= 0) {
+            throw new IllegalArgumentException("Maximum pending matches must be positive");
+        }
+        this.executor = Objects.requireNonNull(executor, "Executor must not be null");
+        this.maxPendingMatches = maxPendingMatches;
+    }
+
+    /**
+     * Subscribes to events from now on. If this publisher has a {@code maxPendingMatches} cap and the subscriber falls
+     * behind on more distinct matches than that, its pending events are dropped, it is cancelled and it receives
+     * {@link Flow.Subscriber#onError} with an {@link IllegalStateException}; it should then resynchronise from
+     * {@link Scoreboard#getSummary()} and subscribe again. An {@link #UNBOUNDED} publisher never cancels.
+     */
+    @Override
+    public void subscribe(final Flow.Subscriber<? super ScoreboardEvent> subscriber) {
+        Objects.requireNonNull(subscriber, "Subscriber must not be null");
+        final ConflatingSubscription subscription = new ConflatingSubscription(subscriber);
+        subscriptions.add(subscription);
+        subscriber.onSubscribe(subscription);
+    }
+
+    @Override
+    public void onEvent(final ScoreboardEvent event) {
+        for (final ConflatingSubscription subscription : subscriptions) {
+            subscription.offer(event);
+        }
+    }
+
+    /** @return number of active subscriptions */
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    private final class ConflatingSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super ScoreboardEvent> subscriber;
+        private final AtomicInteger wip = new AtomicInteger();
+        /* guarded by this */
+        private final Map<Long, PendingEvents> pending = new LinkedHashMap<>();
+        private long demand;
+        private boolean cancelled;
+        private Throwable failure;
+
+        private ConflatingSubscription(final Flow.Subscriber<? super ScoreboardEvent> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        private void offer(final ScoreboardEvent event) {
+            synchronized (this) {
+                if (cancelled || failure != null) {
+                    return;
+                }
+                PendingEvents events = pending.get(event.matchId());
+                if (events == null) {
+                    if (pending.size() == maxPendingMatches) {
+                        failure = new IllegalStateException(
+                                format("Subscriber fell behind on more than %d matches", maxPendingMatches));
+                        pending.clear();
+                    } else {
+                        events = new PendingEvents();
+                        pending.put(event.matchId(), events);
+                    }
+                }
+                if (events != null) {
+                    events.add(event);
+                    if (events.isEmpty()) {
+                        pending.remove(event.matchId());
+                    }
+                }
+            }
+            schedule();
+        }
+
+        @Override
+        public void request(final long n) {
+            synchronized (this) {
+                if (n <= 0) {
+                    failure = new IllegalArgumentException("Requested number of events must be positive");
+                } else {
+                    demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                }
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (this) {
+                cancelled = true;
+                pending.clear();
+            }
+            subscriptions.remove(this);
+        }
+
+        private void schedule() {
+            if (wip.getAndIncrement() == 0) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            int missed = 1;
+            while (true) {
+                while (true) {
+                    final ScoreboardEvent next;
+                    final Throwable error;
+                    synchronized (this) {
+                        if (cancelled) {
+                            return;
+                        }
+                        error = failure;
+                        if (error != null) {
+                            next = null;
+                        } else if (demand == 0 || pending.isEmpty()) {
+                            break;
+                        } else {
+                            next = poll();
+                            demand--;
+                        }
+                    }
+
+                    if (error != null) {
+                        cancel();
+                        subscriber.onError(error);
+                        return;
+                    }
+                    try {
+                        subscriber.onNext(next);
+                    } catch (final RuntimeException e) {
+                        cancel();
+                        subscriber.onError(e);
+                        return;
+                    }
+                }
+
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        /* guarded by this */
+        private ScoreboardEvent poll() {
+            final Iterator<PendingEvents> iterator = pending.values().iterator();
+            final PendingEvents events = iterator.next();
+            final ScoreboardEvent next = events.poll();
+            if (events.isEmpty()) {
+                iterator.remove();
+            }
+            return next;
+        }
+    }
+
+    /**
+     * Conflated events of one match, delivered in start, update, finish order; empty once a finish cancels a pending
+     * start.
+     */
+    private static final class PendingEvents {
+        private ScoreboardEvent.MatchStarted started;
+        private ScoreboardEvent.ScoreUpdated updated;
+        private ScoreboardEvent.MatchFinished finished;
+
+        private void add(final ScoreboardEvent event) {
+            switch (event) {
+                case ScoreboardEvent.MatchStarted s -> started = s;
+                case ScoreboardEvent.ScoreUpdated u -> updated = updated == null
+                        ? u
+                        : new ScoreboardEvent.ScoreUpdated(u.matchId(), updated.previous(), u.match());
+                case ScoreboardEvent.MatchFinished f -> {
+                    // a subscriber that never saw the start has nothing to finish
+                    finished = started == null ? f : null;
+                    started = null;
+                    updated = null;
+                }
+            }
+        }
+
+        private ScoreboardEvent poll() {
+            final ScoreboardEvent next;
+            if (started != null) {
+                next = started;
+                started = null;
+            } else if (updated != null) {
+                next = updated;
+                updated = null;
+            } else {
+                next = finished;
+                finished = null;
+            }
+            return next;
+        }
+
+        private boolean isEmpty() {
+            return started == null && updated == null && finished == null;
+        }
+    }
+}
@@ -0,0 +1,396 @@
+package com.hanabezdrob.scoreboard;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import static java.lang.String.format;
+
+/**
+ * Append-only write-ahead journal that makes a {@link Scoreboard} survive process restarts.
+ *
+ * <p>The journal listens to board events and appends one compact binary record per start, score update and finish
+ * through a {@link FileChannel}. Records are written to the OS before the board operation returns, so they survive
+ * a process crash; forcing them to disk is batched by a background thread every
+ * {@link JournalOptions#fsyncInterval()}, keeping fsync off the update path. A failed background fsync is retried
+ * on the next interval and counted in {@link #getFsyncFailures()}.</p>
+ *
+ * <p>Every {@link JournalOptions#snapshotInterval()} records the journal writes a snapshot of the live board and
+ * starts a fresh journal file. Files are numbered by generation: {@code snapshot-N.bin} holds the board when
+ * {@code journal-N.log} was started. {@link #attach} loads the latest snapshot, replays its journal, truncates a
+ * torn tail record left by a crash, and starts journaling the board.</p>
+ *
+ * <p>Journal records are {@code [varint length][payload][crc32]}; payloads hold a type byte, the varint match id
+ * and, for a start, the start instant and team names, or, for an update, the varint scores.</p>
+ */
+public class ScoreboardJournal implements ScoreboardListener, Closeable {
+    private static final Pattern SNAPSHOT_FILE = Pattern.compile("snapshot-(\\d+)\\.bin");
+    private static final Pattern JOURNAL_FILE = Pattern.compile("journal-(\\d+)\\.log");
+    private static final int SNAPSHOT_MAGIC = 0x53434254;
+    private static final byte START = 1;
+    private static final byte UPDATE = 2;
+    private static final byte FINISH = 3;
+
+    private final Path directory;
+    private final JournalOptions options;
+    private final ScheduledExecutorService fsyncExecutor;
+    private final CRC32 crc = new CRC32();
+    private final LongAdder fsyncFailures = new LongAdder();
+    private ByteBuffer buffer = ByteBuffer.allocate(1024);
+    private Scoreboard scoreboard;
+    private long generation;
+    private volatile FileChannel channel;
+    private volatile boolean dirty;
+    private long recordsSinceSnapshot;
+
+    private ScoreboardJournal(final Path directory, final JournalOptions options) {
+        this.directory = directory;
+        this.options = options;
+        if (options.fsyncInterval().isZero()) {
+            this.fsyncExecutor = null;
+        } else {
+            this.fsyncExecutor = Executors.newSingleThreadScheduledExecutor(task -> {
+                final Thread thread = new Thread(task, "scoreboard-journal-fsync");
+                thread.setDaemon(true);
+                return thread;
+            });
+            final long interval = options.fsyncInterval().toNanos();
+            fsyncExecutor.scheduleWithFixedDelay(this::forceIfDirty, interval, interval, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Opens (creating if needed) the journal stored in {@code directory}. Call {@link #attach} to recover a board.
+     */
+    public static ScoreboardJournal open(final Path directory, final JournalOptions options) throws IOException {
+        Objects.requireNonNull(directory, "Directory must not be null");
+        Objects.requireNonNull(options, "Options must not be null");
+        Files.createDirectories(directory);
+        return new ScoreboardJournal(directory, options);
+    }
+
+    /**
+     * Restores the journaled state into {@code scoreboard} and journals every later change of it.
+     *
+     * @return {@code scoreboard}, holding the matches that were live when the journal was last written
+     * @throws IllegalStateException if the board is not empty or the journal is already attached
+     */
+    public synchronized Scoreboard attach(final Scoreboard scoreboard) throws IOException {
+        Objects.requireNonNull(scoreboard, "Scoreboard must not be null");
+        if (this.scoreboard != null) {
+            throw new IllegalStateException("Journal is already attached to a scoreboard");
+        }
+        if (!scoreboard.getMatchesInProgress().isEmpty()) {
+            throw new IllegalStateException("Only an empty scoreboard can be recovered");
+        }
+
+        generation = latestGeneration();
+        final Path snapshotFile = snapshotFile(generation);
+        if (Files.exists(snapshotFile)) {
+            loadSnapshot(snapshotFile, scoreboard);
+        }
+        final Path journalFile = journalFile(generation);
+        channel = FileChannel.open(journalFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        final long validEnd = replay(channel, scoreboard);
+        channel.truncate(validEnd);
+        channel.position(validEnd);
+        deleteOtherGenerations();
+
+        this.scoreboard = scoreboard;
+        scoreboard.addListener(this);
+        return scoreboard;
+    }
+
+    @Override
+    public void onEvent(final ScoreboardEvent event) {
+        try {
+            append(event);
+            if (options.snapshotInterval() > 0 && ++recordsSinceSnapshot >= options.snapshotInterval()) {
+                snapshot();
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Could not write scoreboard journal", e);
+        }
+    }
+
+    /**
+     * Writes a snapshot of the attached board and starts a new, empty journal generation. Runs on the calling thread,
+     * which must be the thread that updates the board.
+     */
+    public synchronized void snapshot() throws IOException {
+        if (scoreboard == null) {
+            throw new IllegalStateException("Journal is not attached to a scoreboard");
+        }
+
+        final long next = generation + 1;
+        final Path temporary = directory.resolve(format("snapshot-%d.tmp", next));
+        try (FileChannel out = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            final ByteBuffer snapshot = encodeSnapshot(scoreboard);
+            while (snapshot.hasRemaining()) {
+                out.write(snapshot);
+            }
+            out.force(true);
+        }
+        Files.move(temporary, snapshotFile(next), StandardCopyOption.ATOMIC_MOVE);
+
+        // the forced snapshot supersedes the previous journal file, so it is closed without forcing it
+        final FileChannel previous = channel;
+        channel = FileChannel.open(journalFile(next), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+        previous.close();
+        generation = next;
+        recordsSinceSnapshot = 0;
+        deleteOtherGenerations();
+    }
+
+    /** @return background fsyncs that failed since the journal was opened; their records are forced on a retry */
+    public long getFsyncFailures() {
+        return fsyncFailures.sum();
+    }
+
+    /** Forces pending records to disk, detaches from the board and releases the journal files. */
+    @Override
+    public synchronized void close() throws IOException {
+        if (fsyncExecutor != null) {
+            fsyncExecutor.shutdownNow();
+        }
+        if (scoreboard != null) {
+            scoreboard.removeListener(this);
+        }
+        final FileChannel current = channel;
+        if (current != null && current.isOpen()) {
+            current.force(false);
+            current.close();
+        }
+    }
+
+    private synchronized void append(final ScoreboardEvent event) throws IOException {
+        ensureCapacity(event);
+        buffer.clear();
+        buffer.position(5);
+        final int payloadStart = buffer.position();
+        switch (event) {
+            case ScoreboardEvent.MatchStarted started -> {
+                buffer.put(START);
+                VarInts.putVarLong(buffer, started.matchId());
+                putMatch(buffer, started.match());
+            }
+            case ScoreboardEvent.ScoreUpdated updated -> {
+                buffer.put(UPDATE);
+                VarInts.putVarLong(buffer, updated.matchId());
+                VarInts.putVarLong(buffer, updated.match().getHomeScore());
+                VarInts.putVarLong(buffer, updated.match().getAwayScore());
+            }
+            case ScoreboardEvent.MatchFinished finished -> {
+                buffer.put(FINISH);
+                VarInts.putVarLong(buffer, finished.matchId());
+            }
+        }
+        final int payloadLength = buffer.position() - payloadStart;
+        crc.reset();
+        crc.update(buffer.array(), payloadStart, payloadLength);
+        buffer.putInt((int) crc.getValue());
+        final int end = buffer.position();
+
+        // Prefix the payload with its varint length, right-aligned in the 5 reserved bytes.
+        final int start = payloadStart - VarInts.varLongSize(payloadLength);
+        buffer.position(start);
+        VarInts.putVarLong(buffer, payloadLength);
+        buffer.limit(end).position(start);
+
+        final FileChannel out = channel;
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+        if (fsyncExecutor == null) {
+            out.force(false);
+        } else {
+            dirty = true;
+        }
+    }
+
+    private void ensureCapacity(final ScoreboardEvent event) {
+        final int needed = 64 + VarInts.maxStringSize(event.match().homeTeam())
+                + VarInts.maxStringSize(event.match().awayTeam());
+        if (buffer.capacity() < needed) {
+            buffer = ByteBuffer.allocate(needed);
+        }
+    }
+
+    private void forceIfDirty() {
+        if (!dirty) {
+            return;
+        }
+        dirty = false;
+        try {
+            channel.force(false);
+        } catch (final ClosedChannelException e) {
+            // the journal was closed, which forced it, or rolled over to a new generation whose snapshot
+            // supersedes the old file
+        } catch (final IOException e) {
+            fsyncFailures.increment();
+            dirty = true;
+        }
+    }
+
+    private static void putMatch(final ByteBuffer out, final Match match) {
+        VarInts.putVarSignedLong(out, match.startTime().getEpochSecond());
+        VarInts.putVarLong(out, match.startTime().getNano());
+        VarInts.putString(out, match.homeTeam());
+        VarInts.putString(out, match.awayTeam());
+    }
+
+    private static Match getMatch(final ByteBuffer in, final Score score) {
+        final Instant startTime = Instant.ofEpochSecond(VarInts.getVarSignedLong(in), VarInts.getVarInt(in));
+        return new Match(VarInts.getString(in), VarInts.getString(in), score, startTime);
+    }
+
+    /** @return position just after the last complete, intact record */
+    private static long replay(final FileChannel in, final Scoreboard scoreboard) throws IOException {
+        final long size = in.size();
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Scoreboard journal is too large to replay; enable snapshots");
+        }
+        final ByteBuffer records = ByteBuffer.allocate((int) size);
+        while (records.hasRemaining() && in.read(records, records.position()) >= 0) {
+            // read the whole journal generation
+        }
+        records.flip();
+        final CRC32 checksum = new CRC32();
+        long validEnd = 0;
+        try {
+            while (records.hasRemaining()) {
+                final int length = VarInts.getVarInt(records);
+                if (length > records.remaining() - Integer.BYTES) {
+                    break;
+                }
+                final ByteBuffer payload = records.slice(records.position(), length);
+                records.position(records.position() + length);
+                checksum.reset();
+                checksum.update(payload.duplicate());
+                if ((int) checksum.getValue() != records.getInt()) {
+                    break;
+                }
+                apply(payload, scoreboard);
+                validEnd = records.position();
+            }
+        } catch (final BufferUnderflowException | IllegalArgumentException e) {
+            // torn or corrupt tail: everything from validEnd on is discarded
+        }
+        return validEnd;
+    }
+
+    private static void apply(final ByteBuffer payload, final Scoreboard scoreboard) {
+        final byte type = payload.get();
+        final long matchId = VarInts.getVarLong(payload);
+        switch (type) {
+            case START -> scoreboard.restoreMatch(matchId, getMatch(payload, new Score(0, 0)));
+            case UPDATE -> {
+                final Score score = new Score(VarInts.getVarInt(payload), VarInts.getVarInt(payload));
+                scoreboard.findMatch(matchId).ifPresent(match -> scoreboard.restoreMatch(matchId,
+                        new Match(match.homeTeam(), match.awayTeam(), score, match.startTime())));
+            }
+            case FINISH -> scoreboard.restoreFinish(matchId);
+            default -> throw new IllegalArgumentException(format("Unknown journal record type %d", type));
+        }
+    }
+
+    private static ByteBuffer encodeSnapshot(final Scoreboard scoreboard) {
+        final Map<Long, Match> matches = scoreboard.liveMatchesById();
+        int size = 32;
+        for (final Match match : matches.values()) {
+            size += 48 + VarInts.maxStringSize(match.homeTeam()) + VarInts.maxStringSize(match.awayTeam());
+        }
+
+        final ByteBuffer out = ByteBuffer.allocate(size);
+        out.putInt(SNAPSHOT_MAGIC);
+        VarInts.putVarLong(out, scoreboard.nextMatchId());
+        VarInts.putVarLong(out, matches.size());
+        for (final Map.Entry<Long, Match> entry : matches.entrySet()) {
+            final Match match = entry.getValue();
+            VarInts.putVarLong(out, entry.getKey());
+            VarInts.putVarLong(out, match.getHomeScore());
+            VarInts.putVarLong(out, match.getAwayScore());
+            putMatch(out, match);
+        }
+        final CRC32 checksum = new CRC32();
+        checksum.update(out.array(), 0, out.position());
+        out.putInt((int) checksum.getValue());
+        return out.flip();
+    }
+
+    private static void loadSnapshot(final Path file, final Scoreboard scoreboard) throws IOException {
+        final ByteBuffer in = ByteBuffer.wrap(Files.readAllBytes(file));
+        final CRC32 checksum = new CRC32();
+        if (in.limit() < 2 * Integer.BYTES || in.getInt() != SNAPSHOT_MAGIC) {
+            throw new IOException(format("Corrupt scoreboard snapshot %s", file));
+        }
+        checksum.update(in.array(), 0, in.limit() - Integer.BYTES);
+        if ((int) checksum.getValue() != in.getInt(in.limit() - Integer.BYTES)) {
+            throw new IOException(format("Corrupt scoreboard snapshot %s", file));
+        }
+
+        final long nextMatchId = VarInts.getVarLong(in);
+        final int count = VarInts.getVarInt(in);
+        for (int i = 0; i < count; i++) {
+            final long matchId = VarInts.getVarLong(in);
+            final Score score = new Score(VarInts.getVarInt(in), VarInts.getVarInt(in));
+            scoreboard.restoreMatch(matchId, getMatch(in, score));
+        }
+        scoreboard.restoreNextMatchId(nextMatchId);
+    }
+
+    private long latestGeneration() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> SNAPSHOT_FILE.matcher(file.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .mapToLong(matcher -> Long.parseLong(matcher.group(1)))
+                    .max()
+                    .orElse(0);
+        }
+    }
+
+    private void deleteOtherGenerations() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (final Path file : files.toList()) {
+                final String name = file.getFileName().toString();
+                final Matcher snapshot = SNAPSHOT_FILE.matcher(name);
+                final Matcher journal = JOURNAL_FILE.matcher(name);
+                if (snapshot.matches() && Long.parseLong(snapshot.group(1)) != generation
+                        || journal.matches() && Long.parseLong(journal.group(1)) != generation) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private Path snapshotFile(final long generation) {
+        return directory.resolve(format("snapshot-%d.bin", generation));
+    }
+
+    private Path journalFile(final long generation) {
+        return directory.resolve(format("journal-%d.log", generation));
+    }
+}
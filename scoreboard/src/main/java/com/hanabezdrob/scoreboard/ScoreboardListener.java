@@ -0,0 +1,10 @@
+package com.hanabezdrob.scoreboard;
+
+/**
+ * Synchronous callback invoked by the board for every {@link ScoreboardEvent}, on the thread that changed it.
+ * Implementations must be fast and must not modify the board.
+ */
+@FunctionalInterface
+public interface ScoreboardListener {
+    void onEvent(final ScoreboardEvent event);
+}
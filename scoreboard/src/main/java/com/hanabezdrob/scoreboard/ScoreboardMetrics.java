@@ -0,0 +1,39 @@
+package com.hanabezdrob.scoreboard;
+
+/**
+ * Instrumentation SPI of the scoreboards. Every method defaults to a no-op; boards built with {@link #NOOP} skip
+ * instrumentation entirely, including the clock reads, so it costs nothing when it is turned off.
+ * Implementations must be thread-safe and fast: they are called inline on the board's hot paths.
+ */
+public interface ScoreboardMetrics {
+    /** Disabled instrumentation. */
+    ScoreboardMetrics NOOP = new ScoreboardMetrics() {
+    };
+
+    /** Timed board operations. */
+    enum Operation {
+        START_MATCH,
+        UPDATE_SCORE,
+        FINISH_MATCH,
+        GET_SUMMARY
+    }
+
+    /**
+     * Called after every timed operation, whether it succeeded or threw.
+     *
+     * @param nanos wall-clock duration of the operation
+     */
+    default void recordLatency(final Operation operation, final long nanos) {
+    }
+
+    /** Called when a start or score update is rejected; {@code result} is never {@link ValidationResult#OK}. */
+    default void recordRejection(final ValidationResult result) {
+    }
+
+    /**
+     * Called whenever matches go live or finish; the running sum of the deltas is the number of live matches, even
+     * when concurrent boards report out of order.
+     */
+    default void recordLiveMatchesChange(final int delta) {
+    }
+}
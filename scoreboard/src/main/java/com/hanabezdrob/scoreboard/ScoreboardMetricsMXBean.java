@@ -0,0 +1,26 @@
+package com.hanabezdrob.scoreboard;
+
+import java.util.Map;
+
+/**
+ * JMX view of a {@link RecordingScoreboardMetrics}. Latency maps are keyed by {@link ScoreboardMetrics.Operation}
+ * name and hold nanoseconds; rejection counts are keyed by {@link ValidationResult} name.
+ */
+public interface ScoreboardMetricsMXBean {
+    long getLiveMatches();
+
+    Map<String, Long> getOperationCounts();
+
+    Map<String, Long> getLatencyP50Nanos();
+
+    Map<String, Long> getLatencyP99Nanos();
+
+    Map<String, Long> getLatencyP999Nanos();
+
+    Map<String, Long> getLatencyMaxNanos();
+
+    Map<String, Long> getRejectionCounts();
+
+    /** Clears latencies and rejection counts; the live-match gauge is kept. */
+    void reset();
+}
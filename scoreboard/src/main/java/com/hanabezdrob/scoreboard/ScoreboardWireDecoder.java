@@ -0,0 +1,113 @@
+package com.hanabezdrob.scoreboard;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+
+import static java.lang.String.format;
+
+/**
+ * Reads frames written by a {@link ScoreboardWireEncoder}, in the order they were written, keeping the team
+ * dictionary in step with the encoder. Snapshots are decoded into primitive columns and their {@link Match}
+ * records are only built when read. Not thread-safe.
+ */
+public final class ScoreboardWireDecoder {
+    private TeamRegistry teams = new TeamRegistry();
+    private long lastStartNanos;
+    private long lastMatchId;
+    private boolean synced;
+
+    /**
+     * Reads the snapshot at {@code in}'s position and resets the team dictionary to the one it defines.
+     *
+     * @throws IllegalArgumentException if the frame is not a snapshot or is malformed
+     */
+    public WireSnapshot readSnapshot(final ByteBuffer in) {
+        final byte type = in.get();
+        if (type != ScoreboardWireEncoder.SNAPSHOT) {
+            throw new IllegalArgumentException(format("Expected snapshot frame but got type %d", type));
+        }
+        teams = new TeamRegistry();
+        lastStartNanos = 0;
+        lastMatchId = 0;
+        synced = true;
+
+        final long version = VarInts.getVarLong(in);
+        final int count = VarInts.getVarInt(in);
+        if (count > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        final long[] matchIds = new long[count];
+        final int[] homeTeams = new int[count];
+        final int[] awayTeams = new int[count];
+        final int[] homeScores = new int[count];
+        final int[] awayScores = new int[count];
+        final long[] startNanos = new long[count];
+        for (int i = 0; i < count; i++) {
+            matchIds[i] = getMatchId(in);
+            homeTeams[i] = getTeam(in);
+            awayTeams[i] = getTeam(in);
+            homeScores[i] = VarInts.getVarInt(in);
+            awayScores[i] = VarInts.getVarInt(in);
+            startNanos[i] = getStartNanos(in);
+        }
+        return new WireSnapshot(version, teams, matchIds, homeTeams, awayTeams, homeScores, awayScores, startNanos);
+    }
+
+    /**
+     * Reads the event at {@code in}'s position.
+     *
+     * @throws IllegalStateException    if no snapshot was read yet and the event refers to an unknown team
+     * @throws IllegalArgumentException if the frame is not an event or is malformed
+     */
+    public ScoreboardEvent readEvent(final ByteBuffer in) {
+        final byte type = in.get();
+        if (type < ScoreboardWireEncoder.MATCH_STARTED || type > ScoreboardWireEncoder.MATCH_FINISHED) {
+            throw new IllegalArgumentException(format("Expected event frame but got type %d", type));
+        }
+        final long matchId = getMatchId(in);
+        final String homeTeam = teams.name(getTeam(in));
+        final String awayTeam = teams.name(getTeam(in));
+        final Score score = new Score(VarInts.getVarInt(in), VarInts.getVarInt(in));
+        final Match match = new Match(homeTeam, awayTeam, score, fromNanos(getStartNanos(in)));
+        return switch (type) {
+            case ScoreboardWireEncoder.MATCH_STARTED -> new ScoreboardEvent.MatchStarted(matchId, match);
+            case ScoreboardWireEncoder.SCORE_UPDATED -> new ScoreboardEvent.ScoreUpdated(matchId,
+                    new Match(homeTeam, awayTeam, new Score(VarInts.getVarInt(in), VarInts.getVarInt(in)),
+                            match.startTime()),
+                    match);
+            default -> new ScoreboardEvent.MatchFinished(matchId, match);
+        };
+    }
+
+    private long getMatchId(final ByteBuffer in) {
+        lastMatchId += VarInts.getVarSignedLong(in);
+        return lastMatchId;
+    }
+
+    private long getStartNanos(final ByteBuffer in) {
+        lastStartNanos += VarInts.getVarSignedLong(in);
+        return lastStartNanos;
+    }
+
+    /** Reads a team id, registering the name that follows a first use. */
+    private int getTeam(final ByteBuffer in) {
+        final int id = VarInts.getVarInt(in);
+        if (id < teams.size()) {
+            return id;
+        }
+        if (id > teams.size()) {
+            if (!synced) {
+                throw new IllegalStateException("Stream must be read from a snapshot");
+            }
+            throw new IllegalArgumentException(format("Unknown team id %d", id));
+        }
+        teams.intern(VarInts.getString(in));
+        return id;
+    }
+
+    static Instant fromNanos(final long nanos) {
+        return Instant.ofEpochSecond(Math.floorDiv(nanos, ScoreboardWireEncoder.NANOS_PER_SECOND),
+                Math.floorMod(nanos, ScoreboardWireEncoder.NANOS_PER_SECOND));
+    }
+}
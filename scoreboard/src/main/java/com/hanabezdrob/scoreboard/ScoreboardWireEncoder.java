@@ -0,0 +1,153 @@
+package com.hanabezdrob.scoreboard;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.ToLongFunction;
+
+/**
+ * Writes board snapshots and events in a compact binary format, straight into a caller-supplied heap or direct
+ * {@link ByteBuffer} so one buffer can be reused for every frame. Read back with a {@link ScoreboardWireDecoder}.
+ *
+ * <p>Frames are a sequence on one stream: teams are interned to ids in a dictionary shared with the decoder, and a
+ * team's name is sent inline only the first time it is referenced. Scores are varints and start times are
+ * zig-zag deltas in nanoseconds from the previously written start time. A snapshot resets the dictionary, so a
+ * decoder can join the stream at any snapshot. Frames carry no length; the transport delimits them.</p>
+ *
+ * <p>Every write checks the worst-case frame size first and throws {@link BufferOverflowException} without
+ * writing anything or touching the dictionary if {@code out} is too small. Not thread-safe.</p>
+ */
+public final class ScoreboardWireEncoder {
+    static final byte SNAPSHOT = 1;
+    static final byte MATCH_STARTED = 2;
+    static final byte SCORE_UPDATED = 3;
+    static final byte MATCH_FINISHED = 4;
+    static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private static final int MAX_VARLONG_SIZE = 10;
+    private static final int MAX_MATCH_SIZE = 6 * MAX_VARLONG_SIZE;
+
+    private TeamRegistry teams = new TeamRegistry();
+    private long lastStartNanos;
+    private long lastMatchId;
+
+    /**
+     * Writes every match of {@code scoreboard}'s summary with its id.
+     *
+     * @return number of bytes written
+     */
+    public int writeSnapshot(final ByteBuffer out, final Scoreboard scoreboard) {
+        return writeSnapshot(out, scoreboard.getVersion(), scoreboard.getSummary(), scoreboard::getMatchId);
+    }
+
+    /**
+     * Writes {@code matches} in the given order, each with the id {@code matchIds} returns for it, and resets the
+     * team dictionary.
+     *
+     * @return number of bytes written
+     * @throws BufferOverflowException if {@code out} may not hold the frame; nothing is written
+     */
+    public int writeSnapshot(final ByteBuffer out, final long version, final List<Match> matches,
+                             final ToLongFunction<Match> matchIds) {
+        Objects.requireNonNull(matchIds, "Match ids must not be null");
+        if (out.remaining() < maxSnapshotSize(matches)) {
+            throw new BufferOverflowException();
+        }
+        final int start = out.position();
+        teams = new TeamRegistry();
+        lastStartNanos = 0;
+        lastMatchId = 0;
+
+        out.put(SNAPSHOT);
+        VarInts.putVarLong(out, version);
+        VarInts.putVarLong(out, matches.size());
+        for (int i = 0; i < matches.size(); i++) {
+            final Match match = matches.get(i);
+            putMatchId(out, matchIds.applyAsLong(match));
+            putMatch(out, match);
+        }
+        return out.position() - start;
+    }
+
+    /**
+     * Writes {@code event}, defining any team the decoder has not seen yet.
+     *
+     * @return number of bytes written
+     * @throws BufferOverflowException if {@code out} may not hold the frame; nothing is written
+     */
+    public int writeEvent(final ByteBuffer out, final ScoreboardEvent event) {
+        if (out.remaining() < maxEventSize(event)) {
+            throw new BufferOverflowException();
+        }
+        final int start = out.position();
+        out.put(switch (event) {
+            case ScoreboardEvent.MatchStarted ignored -> MATCH_STARTED;
+            case ScoreboardEvent.ScoreUpdated ignored -> SCORE_UPDATED;
+            case ScoreboardEvent.MatchFinished ignored -> MATCH_FINISHED;
+        });
+        putMatchId(out, event.matchId());
+        putMatch(out, event.match());
+        if (event instanceof ScoreboardEvent.ScoreUpdated updated) {
+            VarInts.putVarLong(out, updated.previous().getHomeScore());
+            VarInts.putVarLong(out, updated.previous().getAwayScore());
+        }
+        return out.position() - start;
+    }
+
+    /** @return upper bound of the bytes {@link #writeSnapshot} needs for {@code matches} */
+    public int maxSnapshotSize(final List<Match> matches) {
+        long size = 1 + 2 * MAX_VARLONG_SIZE;
+        for (int i = 0; i < matches.size(); i++) {
+            size += maxMatchSize(matches.get(i), true);
+        }
+        return (int) Math.min(Integer.MAX_VALUE, size);
+    }
+
+    /** @return upper bound of the bytes {@link #writeEvent} needs for {@code event} */
+    public int maxEventSize(final ScoreboardEvent event) {
+        return 1 + maxMatchSize(event.match(), false) + 2 * MAX_VARLONG_SIZE;
+    }
+
+    private int maxMatchSize(final Match match, final boolean freshDictionary) {
+        int size = MAX_MATCH_SIZE;
+        if (freshDictionary || teams.find(match.homeTeam()) == TeamRegistry.UNKNOWN) {
+            size += VarInts.maxStringSize(match.homeTeam());
+        }
+        if (freshDictionary || teams.find(match.awayTeam()) == TeamRegistry.UNKNOWN) {
+            size += VarInts.maxStringSize(match.awayTeam());
+        }
+        return size;
+    }
+
+    private void putMatchId(final ByteBuffer out, final long matchId) {
+        VarInts.putVarSignedLong(out, matchId - lastMatchId);
+        lastMatchId = matchId;
+    }
+
+    private void putMatch(final ByteBuffer out, final Match match) {
+        putTeam(out, match.homeTeam());
+        putTeam(out, match.awayTeam());
+        VarInts.putVarLong(out, match.getHomeScore());
+        VarInts.putVarLong(out, match.getAwayScore());
+        final long startNanos = toNanos(match.startTime());
+        VarInts.putVarSignedLong(out, startNanos - lastStartNanos);
+        lastStartNanos = startNanos;
+    }
+
+    /** Writes the team id, followed by the name if this is the id's first use since the last snapshot. */
+    private void putTeam(final ByteBuffer out, final String team) {
+        final int known = teams.find(team);
+        if (known != TeamRegistry.UNKNOWN) {
+            VarInts.putVarLong(out, known);
+            return;
+        }
+        VarInts.putVarLong(out, teams.intern(team));
+        VarInts.putString(out, team);
+    }
+
+    private static long toNanos(final Instant instant) {
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), NANOS_PER_SECOND), instant.getNano());
+    }
+}
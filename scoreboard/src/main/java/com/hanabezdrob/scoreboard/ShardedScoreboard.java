@@ -0,0 +1,146 @@
+package com.hanabezdrob.scoreboard;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Registry of independent scoreboards, one shard per competition (World Cup, domestic leagues, cups, ...).
+ *
+ * <p>Each shard is its own {@link ConcurrentScoreboard}, so competitions share no lock or data structure and
+ * updates spread across cores. Team uniqueness is enforced per competition. Cross-shard queries fetch every shard's
+ * sorted top matches in parallel on the supplied {@link Executor} and combine them with a k-way merge, so a global
+ * top-N never sorts the whole board.</p>
+ */
+public class ShardedScoreboard {
+    private static final Comparator<CompetitionMatch> GLOBAL_ORDER = Comparator
+            .comparing(CompetitionMatch::match, Scoreboard.SUMMARY_ORDER)
+            .thenComparing(CompetitionMatch::competition);
+
+    private final Map<String, ConcurrentScoreboard> shards = new ConcurrentSkipListMap<>();
+    private final Supplier<ConcurrentScoreboard> shardFactory;
+    private final Executor executor;
+
+    public ShardedScoreboard() {
+        this(ConcurrentScoreboard::new, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param shardFactory creates the board of a newly seen competition
+     * @param executor runs the per-shard part of cross-shard queries
+     */
+    public ShardedScoreboard(final Supplier<ConcurrentScoreboard> shardFactory, final Executor executor) {
+        this.shardFactory = Objects.requireNonNull(shardFactory, "Shard factory must not be null");
+        this.executor = Objects.requireNonNull(executor, "Executor must not be null");
+    }
+
+    /**
+     * @return the board of {@code competition}, created on first use
+     */
+    public ConcurrentScoreboard shard(final String competition) {
+        Objects.requireNonNull(competition, "Competition must not be null");
+        return shards.computeIfAbsent(competition, ignored -> shardFactory.get());
+    }
+
+    /** @return the board of {@code competition}, or empty if it has none */
+    public Optional<ConcurrentScoreboard> findShard(final String competition) {
+        return Optional.ofNullable(shards.get(competition));
+    }
+
+    /** Drops the board of {@code competition}, e.g. once the competition is over. */
+    public void removeShard(final String competition) {
+        shards.remove(competition);
+    }
+
+    /** @return unmodifiable copy of the competitions with a board, in name order */
+    public SortedSet<String> getCompetitions() {
+        return Collections.unmodifiableSortedSet(new TreeSet<>(shards.keySet()));
+    }
+
+    /**
+     * Global top of all competitions, in summary order (total goals desc, then startTime desc; ties by competition).
+     * Each shard contributes at most {@code n} matches.
+     *
+     * @return unmodifiable list of at most {@code n} matches
+     * @throws IllegalArgumentException if {@code n} is negative
+     */
+    public List<CompetitionMatch> getTopMatches(final int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Number of matches must not be negative");
+        }
+        return merge(n, shard -> shard.getTopMatches(n));
+    }
+
+    /** @return unmodifiable summary of every live match across all competitions */
+    public List<CompetitionMatch> getSummary() {
+        return merge(Integer.MAX_VALUE, ConcurrentScoreboard::getSummary);
+    }
+
+    private List<CompetitionMatch> merge(final int limit,
+                                         final Function<ConcurrentScoreboard, List<Match>> query) {
+        final List<String> competitions = new ArrayList<>();
+        final List<CompletableFuture<List<Match>>> futures = new ArrayList<>();
+        for (final Map.Entry<String, ConcurrentScoreboard> shard : shards.entrySet()) {
+            competitions.add(shard.getKey());
+            futures.add(CompletableFuture.supplyAsync(() -> query.apply(shard.getValue()), executor));
+        }
+
+        final PriorityQueue<Cursor> heads = new PriorityQueue<>(Math.max(1, futures.size()),
+                Comparator.comparing(Cursor::head, GLOBAL_ORDER));
+        for (int i = 0; i < futures.size(); i++) {
+            final List<Match> sorted = futures.get(i).join();
+            if (!sorted.isEmpty()) {
+                heads.add(new Cursor(competitions.get(i), sorted));
+            }
+        }
+
+        final List<CompetitionMatch> merged = new ArrayList<>();
+        while (merged.size() < limit && !heads.isEmpty()) {
+            final Cursor cursor = heads.poll();
+            merged.add(cursor.head());
+            if (cursor.advance()) {
+                heads.add(cursor);
+            }
+        }
+        return List.copyOf(merged);
+    }
+
+    /** Position in one shard's sorted list during the k-way merge. */
+    private static final class Cursor {
+        private final String competition;
+        private final List<Match> sorted;
+        private int position;
+        private CompetitionMatch head;
+
+        private Cursor(final String competition, final List<Match> sorted) {
+            this.competition = competition;
+            this.sorted = sorted;
+            this.head = new CompetitionMatch(competition, sorted.getFirst());
+        }
+
+        private CompetitionMatch head() {
+            return head;
+        }
+
+        private boolean advance() {
+            if (++position == sorted.size()) {
+                return false;
+            }
+            head = new CompetitionMatch(competition, sorted.get(position));
+            return true;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.hanabezdrob.scoreboard;
+
+import java.util.List;
+
+/**
+ * Patch turning the summary a client saw at {@code fromVersion} into the summary at {@code toVersion}.
+ * Ranks are zero-based positions in {@link Scoreboard#getSummary()}.
+ *
+ * @param fromVersion board version the client last saw
+ * @param toVersion current board version
+ * @param full {@code true} if {@code fromVersion} is older than the retained change history; {@code added} then
+ *             holds the whole current summary and the client must replace its copy
+ * @param added matches started since {@code fromVersion}, current snapshots
+ * @param changed matches whose score changed since {@code fromVersion}, current snapshots
+ * @param removed matches finished since {@code fromVersion}, as the client last saw them
+ * @param moved matches live at both versions whose rank changed
+ */
+public record SummaryDelta(long fromVersion, long toVersion, boolean full,
+                           List<Match> added, List<Match> changed, List<Match> removed, List<RankMove> moved) {
+    public SummaryDelta {
+        added = List.copyOf(added);
+        changed = List.copyOf(changed);
+        removed = List.copyOf(removed);
+        moved = List.copyOf(moved);
+    }
+
+    static SummaryDelta full(final long fromVersion, final long toVersion, final List<Match> summary) {
+        return new SummaryDelta(fromVersion, toVersion, true, summary, List.of(), List.of(), List.of());
+    }
+
+    /**
+     * @return {@code true} if the summary did not change between the two versions
+     */
+    public boolean isEmpty() {
+        return !full && added.isEmpty() && changed.isEmpty() && removed.isEmpty() && moved.isEmpty();
+    }
+
+    /**
+     * @param match current snapshot
+     * @param previousRank rank at {@code fromVersion}
+     * @param rank rank at {@code toVersion}
+     */
+    public record RankMove(Match match, int previousRank, int rank) {
+    }
+}
@@ -0,0 +1,65 @@
+package com.hanabezdrob.scoreboard;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import static java.lang.String.format;
+
+/**
+ * Interns team names to dense int ids, so storage can refer to a team with an int and every snapshot shares one
+ * canonical {@link String} per team. Ids are assigned from 0 in registration order and never reused.
+ * Not thread-safe.
+ */
+public final class TeamRegistry {
+    public static final int UNKNOWN = -1;
+
+    private final Map<String, Integer> ids = new HashMap<>();
+    private String[] names = new String[16];
+
+    /**
+     * @return id of {@code name}, registering it first if needed
+     */
+    public int intern(final String name) {
+        Objects.requireNonNull(name, "Team name must not be null");
+        final Integer existing = ids.get(name);
+        if (existing != null) {
+            return existing;
+        }
+
+        final int id = ids.size();
+        if (id == names.length) {
+            names = Arrays.copyOf(names, id * 2);
+        }
+        names[id] = name;
+        ids.put(name, id);
+        return id;
+    }
+
+    /**
+     * @return id of {@code name}, or {@link #UNKNOWN} if it was never registered
+     */
+    public int find(final String name) {
+        final Integer id = name == null ? null : ids.get(name);
+        return id == null ? UNKNOWN : id;
+    }
+
+    /**
+     * @return canonical name of the team with {@code id}
+     * @throws IllegalArgumentException if {@code id} was not assigned
+     */
+    public String name(final int id) {
+        if (id < 0 || id >= ids.size()) {
+            throw new IllegalArgumentException(format("Unknown team id %d", id));
+        }
+        return names[id];
+    }
+
+    /**
+     * @return number of registered teams
+     */
+    public int size() {
+        return ids.size();
+    }
+}
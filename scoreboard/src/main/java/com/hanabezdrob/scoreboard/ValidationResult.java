@@ -0,0 +1,73 @@
+package com.hanabezdrob.scoreboard;
+
+import static java.lang.String.format;
+
+/**
+ * Outcome of a non-throwing rule check, see {@link MatchValidator#checkNewMatch} and
+ * {@link MatchValidator#checkScoreUpdate}. Constants are shared, so reporting a rejection allocates nothing.
+ */
+public enum ValidationResult {
+    OK,
+    /** Team names are null, blank or equal. */
+    INVALID_TEAMS,
+    /** A team of the new match already has a match in progress. */
+    TEAM_BUSY,
+    /** The updated match is not live on the board, or the snapshot is stale. */
+    NOT_FOUND,
+    /** The new score is lower than the current one. */
+    SCORE_DECREASE,
+    /** The new score is above {@link Scoreboard#MAX_SCORE}. */
+    MAX_SCORE,
+    /** The score increase is above {@link Scoreboard#MAX_DELTA}. */
+    MAX_DELTA,
+    /** Rejected by a validator that only implements the throwing contract. */
+    REJECTED;
+
+    public boolean isOk() {
+        return this == OK;
+    }
+
+    /**
+     * Exception a throwing {@link MatchValidator#validateNewMatch} reports for this failed check.
+     *
+     * @param liveMatches used to name the busy team; may be null for any other result
+     */
+    public RuntimeException newMatchException(final String home, final String away,
+                                              final LiveMatchIndex liveMatches) {
+        return switch (this) {
+            case INVALID_TEAMS -> {
+                if (home == null) {
+                    yield new NullPointerException("Home team must not be null");
+                }
+                if (away == null) {
+                    yield new NullPointerException("Away team must not be null");
+                }
+                if (home.isBlank() || away.isBlank()) {
+                    yield new IllegalArgumentException("Team names must not be blank");
+                }
+                yield new IllegalArgumentException("Home and away team must be different");
+            }
+            case TEAM_BUSY -> teamBusy(liveMatches.isPlaying(home) ? home : away);
+            default -> new IllegalStateException(format("Match %s vs %s rejected: %s", home, away, this));
+        };
+    }
+
+    /** Exception a throwing {@link MatchValidator#validateScoreUpdate} reports for this failed check. */
+    public IllegalArgumentException scoreUpdateException(final Match oldMatch, final Score newScore) {
+        return switch (this) {
+            case NOT_FOUND -> new IllegalArgumentException("Match not found");
+            case SCORE_DECREASE -> new IllegalArgumentException("Scores may not go down during a game");
+            case MAX_SCORE -> new IllegalArgumentException(format("Score %s exceeds maximum allowed score", newScore));
+            case MAX_DELTA -> new IllegalArgumentException(
+                    format("Score increase from %s to %s exceeds maximum score increase", oldMatch.score(), newScore)
+            );
+            default -> new IllegalArgumentException(
+                    format("Score update from %s to %s rejected: %s", oldMatch.score(), newScore, this)
+            );
+        };
+    }
+
+    static IllegalStateException teamBusy(final String team) {
+        return new IllegalStateException(format("Team %s has a match in progress", team));
+    }
+}
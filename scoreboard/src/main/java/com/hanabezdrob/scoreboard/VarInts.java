@@ -0,0 +1,79 @@
+package com.hanabezdrob.scoreboard;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * LEB128-style variable-length encoding shared by the binary formats: small non-negative values take one byte.
+ */
+final class VarInts {
+    private VarInts() {
+    }
+
+    static void putVarLong(final ByteBuffer buffer, final long value) {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            buffer.put((byte) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        buffer.put((byte) remaining);
+    }
+
+    /** @return number of bytes {@link #putVarLong} writes for {@code value} */
+    static int varLongSize(final long value) {
+        final int bits = 64 - Long.numberOfLeadingZeros(value);
+        return bits == 0 ? 1 : (bits + 6) / 7;
+    }
+
+    static long getVarLong(final ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            final byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed variable-length number");
+    }
+
+    static int getVarInt(final ByteBuffer buffer) {
+        final long value = getVarLong(buffer);
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Variable-length number out of int range");
+        }
+        return (int) value;
+    }
+
+    /** Zig-zag encodes {@code value} so small negative deltas stay short. */
+    static void putVarSignedLong(final ByteBuffer buffer, final long value) {
+        putVarLong(buffer, (value << 1) ^ (value >> 63));
+    }
+
+    static long getVarSignedLong(final ByteBuffer buffer) {
+        final long encoded = getVarLong(buffer);
+        return (encoded >>> 1) ^ -(encoded & 1);
+    }
+
+    static void putString(final ByteBuffer buffer, final String value) {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        putVarLong(buffer, bytes.length);
+        buffer.put(bytes);
+    }
+
+    static String getString(final ByteBuffer buffer) {
+        final int length = getVarInt(buffer);
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        final byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /** @return upper bound of the encoded size of {@code value} */
+    static int maxStringSize(final String value) {
+        return 5 + value.length() * 3;
+    }
+}
@@ -0,0 +1,79 @@
+package com.hanabezdrob.scoreboard;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Board snapshot decoded by a {@link ScoreboardWireDecoder}. Matches are held as primitive columns; a {@link Match}
+ * is built the first time it is read and then reused, and team names are shared through the snapshot's
+ * {@link TeamRegistry}.
+ */
+public final class WireSnapshot {
+    private final long version;
+    private final TeamRegistry teams;
+    private final long[] matchIds;
+    private final int[] homeTeams;
+    private final int[] awayTeams;
+    private final int[] homeScores;
+    private final int[] awayScores;
+    private final long[] startNanos;
+    private final Match[] matches;
+
+    WireSnapshot(final long version, final TeamRegistry teams, final long[] matchIds, final int[] homeTeams,
+                 final int[] awayTeams, final int[] homeScores, final int[] awayScores, final long[] startNanos) {
+        this.version = version;
+        this.teams = teams;
+        this.matchIds = matchIds;
+        this.homeTeams = homeTeams;
+        this.awayTeams = awayTeams;
+        this.homeScores = homeScores;
+        this.awayScores = awayScores;
+        this.startNanos = startNanos;
+        this.matches = new Match[matchIds.length];
+    }
+
+    /** @return board version the snapshot was taken at */
+    public long version() {
+        return version;
+    }
+
+    /** @return number of matches */
+    public int size() {
+        return matchIds.length;
+    }
+
+    /** @return id of the match at {@code index} */
+    public long matchId(final int index) {
+        Objects.checkIndex(index, matchIds.length);
+        return matchIds[index];
+    }
+
+    /** @return the match at {@code index}, built on first access */
+    public Match match(final int index) {
+        Objects.checkIndex(index, matches.length);
+        Match match = matches[index];
+        if (match == null) {
+            match = new Match(teams.name(homeTeams[index]), teams.name(awayTeams[index]),
+                    new Score(homeScores[index], awayScores[index]),
+                    ScoreboardWireDecoder.fromNanos(startNanos[index]));
+            matches[index] = match;
+        }
+        return match;
+    }
+
+    /** @return unmodifiable view of the matches in encoded order, building each on first access */
+    public List<Match> matches() {
+        return new AbstractList<>() {
+            @Override
+            public Match get(final int index) {
+                return match(index);
+            }
+
+            @Override
+            public int size() {
+                return matches.length;
+            }
+        };
+    }
+}
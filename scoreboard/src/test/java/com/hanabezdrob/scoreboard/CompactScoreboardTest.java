@@ -0,0 +1,104 @@
+package com.hanabezdrob.scoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompactScoreboardTest {
+    @Test
+    void startUpdateFinish_behaveLikeScoreboard() {
+        final CompactScoreboard scoreboard = new CompactScoreboard();
+        Match firstMatch = scoreboard.startMatch("Bosnia and Herzegovina", "Norway");
+        Match secondMatch = scoreboard.startMatch("Croatia", "Mexico");
+
+        secondMatch = scoreboard.updateMatchScore(secondMatch, new Score(2, 1));
+        firstMatch = scoreboard.updateMatchScore(firstMatch, new Score(1, 0));
+
+        assertThat(scoreboard.getMatchesInProgress()).containsExactly(firstMatch, secondMatch);
+        assertThat(scoreboard.getSummary()).containsExactly(secondMatch, firstMatch);
+        assertThat(scoreboard.getTopMatches(1)).containsExactly(secondMatch);
+
+        scoreboard.finishMatch(secondMatch);
+        scoreboard.finishMatch(secondMatch);
+        scoreboard.finishMatch(null);
+        assertThat(scoreboard.getMatchesInProgress()).containsExactly(firstMatch);
+        assertThat(scoreboard.size()).isEqualTo(1);
+    }
+
+    @Test
+    void updateMatchScore_staleOrUnknownMatch_shouldThrowException() {
+        final CompactScoreboard scoreboard = new CompactScoreboard();
+        final Match match = scoreboard.startMatch("Germany", "Spain");
+        scoreboard.updateMatchScore(match, new Score(1, 0));
+
+        assertThatThrownBy(() -> scoreboard.updateMatchScore(match, new Score(2, 0)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Match not found");
+        assertThatThrownBy(() -> scoreboard.updateMatchScore(new Match("USA", "UK"), new Score(1, 0)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Match not found");
+    }
+
+    @Test
+    void updateMatchScore_invalidScore_shouldThrowException() {
+        final CompactScoreboard scoreboard = new CompactScoreboard();
+        final Match match = scoreboard.startMatch("Germany", "Spain");
+
+        assertThatThrownBy(() -> scoreboard.updateMatchScore(match, new Score(Scoreboard.MAX_DELTA + 1, 0)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("exceeds maximum score increase");
+        assertThat(scoreboard.getMatchesInProgress()).containsExactly(match);
+    }
+
+    @Test
+    void startMatch_teamAlreadyPlaying_shouldThrowException() {
+        final CompactScoreboard scoreboard = new CompactScoreboard();
+        final Match match = scoreboard.startMatch("Germany", "Spain");
+
+        assertThatThrownBy(() -> scoreboard.startMatch("Italy", "Spain"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Team Spain has a match in progress");
+
+        scoreboard.finishMatch(match);
+        assertThat(scoreboard.startMatch("Italy", "Spain").awayTeam()).isSameAs(match.awayTeam());
+    }
+
+    @Test
+    void slotsAreReused_andIdsStayStable() {
+        final CompactScoreboard scoreboard = new CompactScoreboard();
+        final List<Match> matches = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            matches.add(scoreboard.startMatch("Home " + i, "Away " + i));
+        }
+        for (int i = 0; i < 40; i += 2) {
+            scoreboard.finishMatch(matches.get(i));
+        }
+        final Match late = scoreboard.startMatch("Late home", "Late away");
+        final Match updated = scoreboard.updateMatchScore(matches.get(1), new Score(1, 0));
+
+        assertThat(scoreboard.getMatchId(late)).isEqualTo(41);
+        assertThat(scoreboard.findMatch(2)).contains(updated);
+        assertThat(scoreboard.findMatch(1)).isEmpty();
+        assertThat(scoreboard.getMatchesInProgress()).hasSize(21).endsWith(late).startsWith(updated);
+        assertThat(scoreboard.getSummary().getFirst()).isEqualTo(updated);
+        assertThat(scoreboard.getTeamRegistry().size()).isEqualTo(82);
+    }
+
+    @Test
+    void teamRegistry_internsNames() {
+        final TeamRegistry registry = new TeamRegistry();
+
+        final int germany = registry.intern("Germany");
+        final int spain = registry.intern("Spain");
+
+        assertThat(registry.intern("Germany")).isEqualTo(germany);
+        assertThat(registry.find("Spain")).isEqualTo(spain);
+        assertThat(registry.find("Italy")).isEqualTo(TeamRegistry.UNKNOWN);
+        assertThat(registry.name(spain)).isEqualTo("Spain");
+        assertThatThrownBy(() -> registry.name(7)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
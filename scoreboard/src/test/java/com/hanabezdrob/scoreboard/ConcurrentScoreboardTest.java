@@ -0,0 +1,259 @@
+package com.hanabezdrob.scoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConcurrentScoreboardTest {
+    private static final int THREADS = 8;
+
+    @Test
+    void startUpdateFinish_behaveLikeScoreboard() {
+        final ConcurrentScoreboard scoreboard = new ConcurrentScoreboard();
+        Match firstMatch = scoreboard.startMatch("Bosnia and Herzegovina", "Norway");
+        Match secondMatch = scoreboard.startMatch("Croatia", "Mexico");
+
+        secondMatch = scoreboard.updateMatchScore(secondMatch, new Score(2, 1));
+        firstMatch = scoreboard.updateMatchScore(firstMatch, new Score(1, 0));
+
+        assertThat(scoreboard.getMatchesInProgress()).containsExactly(firstMatch, secondMatch);
+        assertThat(scoreboard.getSummary()).containsExactly(secondMatch, firstMatch);
+
+        scoreboard.finishMatch(secondMatch);
+        assertThat(scoreboard.getSummary()).containsExactly(firstMatch);
+        scoreboard.finishMatch(secondMatch);
+        scoreboard.finishMatch(null);
+        assertThat(scoreboard.getMatchesInProgress()).containsExactly(firstMatch);
+    }
+
+    @Test
+    void getTopMatches_matchesHeadOfSummary() {
+        final ConcurrentScoreboard scoreboard = new ConcurrentScoreboard();
+        final Match first = scoreboard.startMatch("Germany", "Spain");
+        final Match second = scoreboard.updateMatchScore(scoreboard.startMatch("Croatia", "Mexico"), new Score(3, 0));
+        final Match third = scoreboard.updateMatchScore(scoreboard.startMatch("Serbia", "Italy"), new Score(2, 0));
+
+        // not cached yet: selected with a bounded heap
+        assertThat(scoreboard.getTopMatches(2)).containsExactly(second, third);
+        assertThat(scoreboard.getTopMatches(5)).containsExactly(second, third, first);
+
+        assertThat(scoreboard.getSummary()).containsExactly(second, third, first);
+        assertThat(scoreboard.getTopMatches(2)).containsExactly(second, third);
+        assertThat(scoreboard.getTopMatches(0)).isEmpty();
+    }
+
+    @Test
+    void updateMatchScore_staleSnapshot_shouldThrowException() {
+        final ConcurrentScoreboard scoreboard = new ConcurrentScoreboard();
+        final Match match = scoreboard.startMatch("Germany", "Spain");
+        scoreboard.updateMatchScore(match, new Score(1, 0));
+
+        assertThatThrownBy(() -> scoreboard.updateMatchScore(match, new Score(2, 0)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Match not found");
+    }
+
+    @Test
+    void ingestScore_dropsDuplicateAndOutOfOrderMessages() {
+        final ConcurrentScoreboard scoreboard = new ConcurrentScoreboard();
+        final long id = scoreboard.getMatchId(scoreboard.startMatch("Germany", "Spain"));
+
+        assertThat(scoreboard.ingestScore(id, 2, new Score(2, 0))).isEqualTo(IngestResult.APPLIED);
+        assertThat(scoreboard.ingestScore(id, 2, new Score(2, 0))).isEqualTo(IngestResult.DUPLICATE);
+        assertThat(scoreboard.ingestScore(id, 1, new Score(1, 0))).isEqualTo(IngestResult.STALE);
+        assertThat(scoreboard.ingestScore(id, 3, new Score(1, 0))).isEqualTo(IngestResult.REJECTED);
+        assertThat(scoreboard.ingestScore(id, 3, new Score(2, 1))).isEqualTo(IngestResult.APPLIED);
+        assertThat(scoreboard.ingestScore(id + 1, 1, new Score(1, 0))).isEqualTo(IngestResult.NOT_FOUND);
+        assertThat(scoreboard.findMatch(id)).get().extracting(Match::score).isEqualTo(new Score(2, 1));
+    }
+
+    @Test
+    void startMatch_teamAlreadyPlaying_shouldThrowException() {
+        final ConcurrentScoreboard scoreboard = new ConcurrentScoreboard();
+        scoreboard.startMatch("Germany", "Spain");
+
+        assertThatThrownBy(() -> scoreboard.startMatch("Italy", "Spain"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Team Spain has a match in progress");
+        assertThat(scoreboard.getMatchesInProgress()).hasSize(1);
+    }
+
+    @Test
+    void startMatch_racingOnSameTeam_onlyOneWins() throws Exception {
+        final ConcurrentScoreboard scoreboard = new ConcurrentScoreboard();
+        final CountDownLatch go = new CountDownLatch(1);
+        final AtomicInteger started = new AtomicInteger();
+        final List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            final String opponent = "Opponent " + i;
+            tasks.add(() -> {
+                go.await();
+                try {
+                    scoreboard.startMatch("Brazil", opponent);
+                    started.incrementAndGet();
+                } catch (final IllegalStateException ignored) {
+                    // lost the race for Brazil
+                }
+                return null;
+            });
+        }
+
+        runConcurrently(tasks, go);
+
+        assertThat(started).hasValue(1);
+        assertThat(scoreboard.getMatchesInProgress()).hasSize(1);
+    }
+
+    @Test
+    void updateMatchScore_distinctMatchesInParallel_allApplied() throws Exception {
+        final ConcurrentScoreboard scoreboard = new ConcurrentScoreboard();
+        final CountDownLatch go = new CountDownLatch(1);
+        final List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            final Match match = scoreboard.startMatch("Home " + i, "Away " + i);
+            tasks.add(() -> {
+                go.await();
+                Match current = match;
+                for (int goals = 1; goals <= Scoreboard.MAX_SCORE; goals++) {
+                    current = scoreboard.updateMatchScore(current, new Score(goals, 0));
+                }
+                return null;
+            });
+        }
+
+        runConcurrently(tasks, go);
+
+        assertThat(scoreboard.getSummary())
+                .hasSize(THREADS)
+                .allSatisfy(match -> assertThat(match.getHomeScore()).isEqualTo(Scoreboard.MAX_SCORE));
+    }
+
+    @Test
+    void getSummary_duringWrites_alwaysReturnsConsistentSnapshot() throws Exception {
+        final ConcurrentScoreboard scoreboard = new ConcurrentScoreboard();
+        final Match first = scoreboard.startMatch("Bosnia and Herzegovina", "Norway");
+        final Match second = scoreboard.startMatch("Croatia", "Mexico");
+        final AtomicBoolean done = new AtomicBoolean();
+        final AtomicBoolean inconsistent = new AtomicBoolean();
+        final CountDownLatch go = new CountDownLatch(1);
+
+        // The writer keeps exactly one goal on the board: it finishes the scoring match, scores in the idle one and
+        // restarts the finished fixture. Any snapshot with more than one goal mixes two board states.
+        final Callable<Void> writer = () -> {
+            go.await();
+            Match scoring = scoreboard.updateMatchScore(first, new Score(1, 0));
+            Match idle = second;
+            for (int i = 0; i < 2_000; i++) {
+                scoreboard.finishMatch(scoring);
+                final Match next = scoreboard.updateMatchScore(idle, new Score(1, 0));
+                idle = scoreboard.startMatch(scoring.homeTeam(), scoring.awayTeam());
+                scoring = next;
+            }
+            done.set(true);
+            return null;
+        };
+        final Callable<Void> reader = () -> {
+            go.await();
+            while (!done.get()) {
+                final int goals = scoreboard.getSummary().stream().mapToInt(m -> m.score().total()).sum();
+                if (goals > 1) {
+                    inconsistent.set(true);
+                }
+            }
+            return null;
+        };
+
+        runConcurrently(List.of(writer, reader, reader), go);
+
+        assertThat(inconsistent).isFalse();
+    }
+
+    @Test
+    void getVersion_countsEveryWrite() {
+        final ConcurrentScoreboard scoreboard = new ConcurrentScoreboard();
+        final Match first = scoreboard.startMatch("Bosnia and Herzegovina", "Norway");
+        final Match second = scoreboard.startMatch("Croatia", "Mexico");
+        scoreboard.updateMatchScore(first, new Score(1, 0));
+        scoreboard.finishMatch(second);
+
+        assertThat(scoreboard.getVersion()).isEqualTo(4);
+    }
+
+    @Test
+    void addChangeListener_runsAfterEveryChangeWithNewVersion() {
+        final ConcurrentScoreboard scoreboard = new ConcurrentScoreboard();
+        final List<Long> versions = new ArrayList<>();
+        final Runnable listener = () -> versions.add(scoreboard.getVersion());
+        scoreboard.addChangeListener(listener);
+
+        final Match match = scoreboard.startMatch("Bosnia and Herzegovina", "Norway");
+        final Match updated = scoreboard.updateMatchScore(match, new Score(1, 0));
+        assertThatThrownBy(() -> scoreboard.updateMatchScore(match, new Score(2, 0)))
+                .isInstanceOf(IllegalArgumentException.class);
+        scoreboard.finishMatch(updated);
+        scoreboard.removeChangeListener(listener);
+        scoreboard.startMatch("Croatia", "Mexico");
+
+        assertThat(versions).hasSize(3).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void getSummary_underSteadyWrites_makesProgress() throws Exception {
+        final ConcurrentScoreboard scoreboard = new ConcurrentScoreboard();
+        final AtomicBoolean done = new AtomicBoolean();
+        final CountDownLatch go = new CountDownLatch(1);
+
+        final List<Callable<Void>> tasks = new ArrayList<>();
+        for (int t = 0; t < THREADS - 1; t++) {
+            final String homeTeam = "Home " + t;
+            final String awayTeam = "Away " + t;
+            tasks.add(() -> {
+                go.await();
+                while (!done.get()) {
+                    scoreboard.finishMatch(scoreboard.startMatch(homeTeam, awayTeam));
+                }
+                return null;
+            });
+        }
+        tasks.add(() -> {
+            go.await();
+            try {
+                for (int i = 0; i < 1_000; i++) {
+                    assertThat(scoreboard.getSummary().size()).isLessThan(THREADS);
+                }
+            } finally {
+                done.set(true);
+            }
+            return null;
+        });
+
+        runConcurrently(tasks, go);
+    }
+
+    private static void runConcurrently(final List<Callable<Void>> tasks, final CountDownLatch go) throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+        try {
+            final List<Future<Void>> futures = new ArrayList<>();
+            for (final Callable<Void> task : tasks) {
+                futures.add(executor.submit(task));
+            }
+            go.countDown();
+            for (final Future<Void> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
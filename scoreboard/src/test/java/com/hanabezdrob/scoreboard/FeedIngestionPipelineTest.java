@@ -0,0 +1,138 @@
+package com.hanabezdrob.scoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FeedIngestionPipelineTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Test
+    void inMemoryFeeds_partitionedWriters_applyNewestScorePerMatch() throws Exception {
+        final ConcurrentScoreboard scoreboard = new ConcurrentScoreboard();
+        final List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            ids.add(scoreboard.getMatchId(scoreboard.startMatch("Home " + i, "Away " + i)));
+        }
+
+        try (FeedIngestionPipeline pipeline = new FeedIngestionPipeline(scoreboard::ingestScore, 3, 4)) {
+            // every provider reports every goal, so most messages are duplicates of another provider's
+            for (int feed = 0; feed < 4; feed++) {
+                final List<FeedMessage> messages = new ArrayList<>();
+                for (int goals = 1; goals <= 10; goals++) {
+                    for (final long id : ids) {
+                        messages.add(new FeedMessage(id, goals, new Score(goals, 0)));
+                    }
+                }
+                pipeline.addFeed(feed(messages));
+            }
+
+            assertThat(pipeline.awaitCompletion(TIMEOUT)).isTrue();
+            final FeedIngestionPipeline.Stats stats = pipeline.getStats();
+            assertThat(stats.received()).isEqualTo(4 * 10 * 8);
+            assertThat(stats.applied() + stats.coalesced() + stats.dropped() + stats.rejected())
+                    .isEqualTo(stats.received());
+        }
+
+        assertThat(scoreboard.getSummary())
+                .allSatisfy(match -> assertThat(match.score()).isEqualTo(new Score(10, 0)));
+    }
+
+    @Test
+    void pendingMessages_areCoalescedToNewestAcceptedScore() throws Exception {
+        final Scoreboard scoreboard = new Scoreboard();
+        final long id = scoreboard.getMatchId(scoreboard.startMatch("Germany", "Spain"));
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<Long> ingested = new CopyOnWriteArrayList<>();
+        final ScoreSink blockingSink = (matchId, sequence, score) -> {
+            ingested.add(sequence);
+            if (sequence == 1) {
+                try {
+                    release.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return scoreboard.ingestScore(matchId, sequence, score);
+        };
+
+        try (FeedIngestionPipeline pipeline = new FeedIngestionPipeline(blockingSink)) {
+            pipeline.addFeed(feed(List.of(new FeedMessage(id, 1, new Score(1, 0)))));
+            while (ingested.isEmpty()) {
+                Thread.onSpinWait();
+            }
+            pipeline.addFeed(feed(List.of(
+                    new FeedMessage(id, 3, new Score(3, 0)),
+                    new FeedMessage(id, 2, new Score(2, 0)),
+                    new FeedMessage(id, 5, new Score(8, 0)),
+                    new FeedMessage(id, 4, new Score(4, 0))
+            )));
+            while (pipeline.getStats().received() < 5) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            assertThat(pipeline.awaitCompletion(TIMEOUT)).isTrue();
+            // 8-0 is too big a jump from 1-0, so 4-0 is applied first and 8-0 is retried on top of it
+            assertThat(ingested).containsExactly(1L, 5L, 4L, 5L);
+            assertThat(pipeline.getStats()).isEqualTo(new FeedIngestionPipeline.Stats(5, 3, 2, 0, 0, 0));
+        }
+
+        assertThat(scoreboard.findMatch(id)).get().extracting(Match::score).isEqualTo(new Score(8, 0));
+    }
+
+    @Test
+    void close_interruptedCaller_returnsAndKeepsInterruptStatus() {
+        final FeedIngestionPipeline pipeline = new FeedIngestionPipeline(new Scoreboard()::ingestScore, 2, 4);
+
+        Thread.currentThread().interrupt();
+        pipeline.close();
+
+        assertThat(Thread.interrupted()).isTrue();
+    }
+
+    @Test
+    void loopbackSocketFeed_isParsedAndApplied() throws Exception {
+        final ConcurrentScoreboard scoreboard = new ConcurrentScoreboard();
+        final long id = scoreboard.getMatchId(scoreboard.startMatch("Germany", "Spain"));
+
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+             FeedIngestionPipeline pipeline = new FeedIngestionPipeline(scoreboard::ingestScore)) {
+            try (Socket provider = new Socket(server.getInetAddress(), server.getLocalPort());
+                 Socket connection = server.accept()) {
+                final LineScoreFeed feed = new LineScoreFeed(
+                        new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8));
+                pipeline.addFeed(feed);
+
+                final PrintWriter out = new PrintWriter(provider.getOutputStream(), true, StandardCharsets.UTF_8);
+                out.println(id + ",1,1,0");
+                out.println("not a score");
+                out.println(id + ",2,1,1");
+                provider.shutdownOutput();
+
+                assertThat(pipeline.awaitCompletion(TIMEOUT)).isTrue();
+                assertThat(feed.getMalformedLines()).isEqualTo(1);
+            }
+        }
+
+        assertThat(scoreboard.findMatch(id)).get().extracting(Match::score).isEqualTo(new Score(1, 1));
+    }
+
+    private static ScoreFeed feed(final List<FeedMessage> messages) {
+        final Iterator<FeedMessage> remaining = messages.iterator();
+        return () -> remaining.hasNext() ? remaining.next() : null;
+    }
+}
@@ -11,6 +11,7 @@ import java.util.List;
 import java.util.stream.Stream;
 
 import static java.util.Collections.emptyList;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 
 class FootballMatchValidatorTest {
@@ -64,6 +65,30 @@ class FootballMatchValidatorTest {
         validator.validateNewMatch("France", "Belgium", List.of(existing));
     }
 
+    @Test
+    void validateNewMatch_indexedTeamAlreadyPlaying_shouldThrowException() {
+        final Scoreboard scoreboard = new Scoreboard(new MatchValidator() {
+            @Override
+            public void validateNewMatch(final String home, final String away, final Iterable<Match> existing) {
+            }
+
+            @Override
+            public void validateNewMatch(final String home, final String away, final LiveMatchIndex liveMatches) {
+                validator.validateNewMatch(home, away, liveMatches);
+            }
+
+            @Override
+            public void validateScoreUpdate(final Match oldMatch, final Score newScore) {
+            }
+        });
+        scoreboard.startMatch("Bosnia and Herzegovina", "Croatia");
+
+        assertThatThrownBy(() -> scoreboard.startMatch("Morocco", "Croatia"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Team Croatia has a match in progress");
+        scoreboard.startMatch("France", "Belgium");
+    }
+
     @Test
     void validateScoreUpdate_sameScore_noException() {
         final Match match = new Match("Malta","Portugal", new Score(1,1), Instant.EPOCH);
@@ -116,6 +141,18 @@ class FootballMatchValidatorTest {
         validator.validateScoreUpdate(match, allowed);
     }
 
+    @Test
+    void checkScoreUpdate_returnsViolatedRuleWithoutThrowing() {
+        final Match match = new Match("Latvia", "Italy", new Score(25, 2), Instant.EPOCH);
+
+        assertThat(validator.checkScoreUpdate(match, new Score(26, 2))).isEqualTo(ValidationResult.OK);
+        assertThat(validator.checkScoreUpdate(match, new Score(24, 3))).isEqualTo(ValidationResult.SCORE_DECREASE);
+        assertThat(validator.checkScoreUpdate(match, new Score(Scoreboard.MAX_SCORE + 1, 2)))
+                .isEqualTo(ValidationResult.MAX_SCORE);
+        assertThat(validator.checkScoreUpdate(match, new Score(25, 3 + Scoreboard.MAX_DELTA)))
+                .isEqualTo(ValidationResult.MAX_DELTA);
+    }
+
     static Stream<Arguments> invalidTeamNamesProvider() {
         return Stream.of(
                 // homeTeam invalid, awayTeam valid
@@ -0,0 +1,127 @@
+package com.hanabezdrob.scoreboard;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatchArchiveTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void finishedMatches_areQueryableByTeamAndTotalGoals() throws IOException {
+        try (MatchArchive archive = MatchArchive.open(directory)) {
+            final Scoreboard scoreboard = new Scoreboard();
+            scoreboard.addListener(archive);
+
+            final Match first = play(scoreboard, "Germany", "Spain", new Score(2, 1));
+            final Match second = play(scoreboard, "Spain", "Italy", new Score(0, 0));
+            final Match third = play(scoreboard, "Croatia", "Germany", new Score(4, 1));
+            final Match live = scoreboard.startMatch("Germany", "Spain");
+
+            assertThat(archive.size()).isEqualTo(3);
+            assertThat(matches(archive.findByTeam("Germany", 10))).containsExactly(third, first);
+            assertThat(matches(archive.findByTeam("Spain", 1))).containsExactly(second);
+            assertThat(archive.findByTeam("Brazil", 10)).isEmpty();
+            assertThat(matches(archive.getTopScoring(2))).containsExactly(third, first);
+            assertThat(matches(archive.findByTotalGoals(0, 3, 10))).containsExactly(first, second);
+            assertThat(archive.findByTeam("Germany", 10).getFirst().matchId()).isEqualTo(3);
+            assertThat(matches(archive.findByTeam("Germany", 10))).doesNotContain(live);
+        }
+    }
+
+    @Test
+    void findFinishedBetween_returnsMatchesInFinishOrder() throws IOException {
+        final Instant fullTime = Instant.parse("2026-06-11T21:00:00Z");
+        final MutableClock clock = new MutableClock(fullTime);
+        try (MatchArchive archive = MatchArchive.open(directory, clock)) {
+            final Match first = new Match("Germany", "Spain");
+            final Match second = new Match("Croatia", "Mexico");
+            archive.archive(1, first);
+            clock.advance(Duration.ofMinutes(10));
+            archive.archive(2, second);
+
+            final Instant between = fullTime.plus(Duration.ofMinutes(5));
+            final Instant end = fullTime.plus(Duration.ofMinutes(15));
+            assertThat(matches(archive.findFinishedBetween(Instant.EPOCH, between, 10))).containsExactly(first);
+            assertThat(matches(archive.findFinishedBetween(between, end, 10))).containsExactly(second);
+            assertThat(matches(archive.findFinishedBetween(Instant.EPOCH, end, 10))).containsExactly(first, second);
+            assertThat(archive.findFinishedBetween(end, end.plusSeconds(1), 10)).isEmpty();
+            assertThat(archive.findByTeam("Croatia", 1)).extracting(ArchivedMatch::finishedAt)
+                    .containsExactly(fullTime.plus(Duration.ofMinutes(10)));
+        }
+    }
+
+    @Test
+    void reopen_restoresRecordsAndIndexes() throws IOException {
+        final int matches = 70_000;
+        try (MatchArchive archive = MatchArchive.open(directory)) {
+            for (int i = 0; i < matches; i++) {
+                archive.archive(i + 1, new Match("Home " + i % 100, "Away " + i % 100,
+                        new Score(i % 7, i % 3), Instant.EPOCH));
+            }
+        }
+
+        try (MatchArchive archive = MatchArchive.open(directory)) {
+            assertThat(archive.size()).isEqualTo(matches);
+            final List<ArchivedMatch> home = archive.findByTeam("Home 42", Integer.MAX_VALUE);
+            assertThat(home).hasSize(matches / 100)
+                    .allSatisfy(archived -> assertThat(archived.match().homeTeam()).isEqualTo("Home 42"));
+            assertThat(home.getFirst().matchId()).isEqualTo(matches - 100 + 43);
+            assertThat(archive.getTopScoring(3))
+                    .allSatisfy(archived -> assertThat(archived.match().score()).isEqualTo(new Score(6, 2)));
+
+            archive.archive(matches + 1, new Match("Home 42", "Brazil", new Score(9, 9), Instant.EPOCH));
+            assertThat(archive.findByTeam("Home 42", 2)).extracting(ArchivedMatch::matchId)
+                    .containsExactly((long) matches + 1, (long) matches - 100 + 43);
+            assertThat(archive.getTopScoring(1).getFirst().match().awayTeam()).isEqualTo("Brazil");
+        }
+    }
+
+    private static Match play(final Scoreboard scoreboard, final String home, final String away, final Score score) {
+        final Match match = scoreboard.updateMatchScore(scoreboard.startMatch(home, away), score);
+        scoreboard.finishMatch(match);
+        return match;
+    }
+
+    private static List<Match> matches(final List<ArchivedMatch> archived) {
+        return archived.stream().map(ArchivedMatch::match).toList();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(final Instant now) {
+            this.now = now;
+        }
+
+        private void advance(final Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.hanabezdrob.scoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatchSchedulerTest {
+    private static final Instant KICKOFF = Instant.parse("2026-06-11T19:00:00Z");
+
+    private final MutableClock clock = new MutableClock(KICKOFF);
+    private final Scoreboard scoreboard = new Scoreboard(clock);
+
+    @Test
+    void scheduleKickoff_startsMatchOnceDue() {
+        final MatchScheduler scheduler = MatchScheduler.attach(scoreboard, options(Duration.ZERO, Duration.ZERO,
+                MatchLifecycleOptions.ExpiryAction.FINISH));
+        scheduler.scheduleKickoff("Mexico", "South Africa", KICKOFF.plusSeconds(10));
+
+        clock.advance(Duration.ofSeconds(9));
+        scheduler.advance();
+        assertThat(scoreboard.getMatchesInProgress()).isEmpty();
+        assertThat(scheduler.getPendingKickoffs()).isEqualTo(1);
+
+        clock.advance(Duration.ofSeconds(1));
+        scheduler.advance();
+        assertThat(scoreboard.getMatchesInProgress())
+                .containsExactly(new Match("Mexico", "South Africa", new Score(0, 0), KICKOFF.plusSeconds(10)));
+        assertThat(scheduler.getPendingKickoffs()).isZero();
+    }
+
+    @Test
+    void scheduleKickoff_teamAlreadyPlaying_isCountedAsRejected() {
+        final MatchScheduler scheduler = MatchScheduler.attach(scoreboard, MatchLifecycleOptions.defaults());
+        scoreboard.startMatch("Mexico", "Canada");
+        scheduler.scheduleKickoff("Mexico", "South Africa", KICKOFF);
+
+        clock.advance(Duration.ofSeconds(1));
+        scheduler.advance();
+
+        assertThat(scoreboard.getMatchesInProgress()).hasSize(1);
+        assertThat(scheduler.getRejectedKickoffs()).isEqualTo(1);
+    }
+
+    @Test
+    void advance_pastMaxDuration_finishesMatch() {
+        final MatchScheduler scheduler = MatchScheduler.attach(scoreboard, options(Duration.ofMinutes(120),
+                Duration.ZERO, MatchLifecycleOptions.ExpiryAction.FINISH));
+        final Match match = scoreboard.startMatch("Mexico", "Canada");
+        clock.advance(Duration.ofMinutes(30));
+        scoreboard.updateMatchScore(match, new Score(1, 0));
+
+        clock.advance(Duration.ofMinutes(89));
+        assertThat(scheduler.advance()).isZero();
+        assertThat(scoreboard.getMatchesInProgress()).hasSize(1);
+
+        clock.advance(Duration.ofMinutes(1));
+        assertThat(scheduler.advance()).isEqualTo(1);
+        assertThat(scoreboard.getMatchesInProgress()).isEmpty();
+    }
+
+    @Test
+    void attach_matchAlreadyLive_countsMaxDurationFromKickoff() {
+        scoreboard.startMatch("Mexico", "Canada");
+        clock.advance(Duration.ofMinutes(100));
+        scoreboard.startMatch("Japan", "Brazil");
+        final MatchScheduler scheduler = MatchScheduler.attach(scoreboard, options(Duration.ofMinutes(120),
+                Duration.ofMinutes(60), MatchLifecycleOptions.ExpiryAction.FINISH));
+
+        clock.advance(Duration.ofMinutes(19));
+        assertThat(scheduler.advance()).isZero();
+
+        clock.advance(Duration.ofMinutes(1));
+        assertThat(scheduler.advance()).isEqualTo(1);
+        assertThat(scoreboard.getMatchesInProgress()).extracting(Match::homeTeam).containsExactly("Japan");
+    }
+
+    @Test
+    void attach_matchAlreadyPastMaxDuration_expiresOnFirstAdvance() {
+        scoreboard.startMatch("Mexico", "Canada");
+        clock.advance(Duration.ofMinutes(150));
+        final MatchScheduler scheduler = MatchScheduler.attach(scoreboard, options(Duration.ofMinutes(120),
+                Duration.ZERO, MatchLifecycleOptions.ExpiryAction.FINISH));
+
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(scheduler.advance()).isEqualTo(1);
+        assertThat(scoreboard.getMatchesInProgress()).isEmpty();
+    }
+
+    @Test
+    void advance_inactiveMatch_isFlaggedUntilItScoresAgain() {
+        final MatchScheduler scheduler = MatchScheduler.attach(scoreboard, options(Duration.ZERO,
+                Duration.ofMinutes(10), MatchLifecycleOptions.ExpiryAction.FLAG));
+        final Match match = scoreboard.startMatch("Mexico", "Canada");
+        final long id = scoreboard.getMatchId(match);
+
+        clock.advance(Duration.ofMinutes(5));
+        final Match updated = scoreboard.updateMatchScore(match, new Score(1, 0));
+        clock.advance(Duration.ofMinutes(5));
+        assertThat(scheduler.advance()).isZero();
+
+        clock.advance(Duration.ofMinutes(5));
+        assertThat(scheduler.advance()).isEqualTo(1);
+        assertThat(scheduler.getFlaggedMatchIds()).containsExactly(id);
+        assertThat(scoreboard.getMatchesInProgress()).hasSize(1);
+
+        scoreboard.updateMatchScore(updated, new Score(2, 0));
+        assertThat(scheduler.getFlaggedMatchIds()).isEmpty();
+        clock.advance(Duration.ofMinutes(10));
+        assertThat(scheduler.advance()).isEqualTo(1);
+        assertThat(scheduler.getFlaggedMatchIds()).containsExactly(id);
+    }
+
+    @Test
+    void advance_afterLongPause_expiresEveryDueMatch() {
+        final MatchScheduler scheduler = MatchScheduler.attach(scoreboard, options(Duration.ofMinutes(120),
+                Duration.ofMinutes(30), MatchLifecycleOptions.ExpiryAction.FINISH));
+        for (int i = 0; i < 100; i++) {
+            scoreboard.startMatch("Home " + i, "Away " + i);
+            clock.advance(Duration.ofSeconds(7));
+        }
+        scheduler.scheduleKickoff("Late", "Kickoff", KICKOFF.plus(Duration.ofDays(3)));
+
+        clock.advance(Duration.ofDays(2));
+
+        assertThat(scheduler.advance()).isEqualTo(100);
+        assertThat(scoreboard.getMatchesInProgress()).isEmpty();
+        assertThat(scheduler.getPendingKickoffs()).isEqualTo(1);
+
+        clock.advance(Duration.ofDays(1));
+        scheduler.advance();
+        assertThat(scoreboard.getMatchesInProgress()).extracting(Match::homeTeam).containsExactly("Late");
+    }
+
+    private static MatchLifecycleOptions options(final Duration maxDuration, final Duration inactivityTimeout,
+                                                 final MatchLifecycleOptions.ExpiryAction action) {
+        return new MatchLifecycleOptions(Duration.ofSeconds(1), maxDuration, inactivityTimeout, action);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(final Instant now) {
+            this.now = now;
+        }
+
+        private void advance(final Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
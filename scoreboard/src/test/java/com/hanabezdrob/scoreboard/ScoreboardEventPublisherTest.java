@@ -0,0 +1,198 @@
+package com.hanabezdrob.scoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScoreboardEventPublisherTest {
+    @Test
+    void addListener_receivesEveryChangeSynchronously() {
+        final Scoreboard scoreboard = new Scoreboard();
+        final List<ScoreboardEvent> events = new ArrayList<>();
+        scoreboard.addListener(events::add);
+
+        final Match match = scoreboard.startMatch("Germany", "Spain");
+        final long id = scoreboard.getMatchId(match);
+        final Match updated = scoreboard.updateMatchScore(match, new Score(1, 0));
+        scoreboard.updateMatchScore(updated, new Score(1, 0));
+        scoreboard.finishMatch(updated);
+
+        assertThat(events).containsExactly(
+                new ScoreboardEvent.MatchStarted(id, match),
+                new ScoreboardEvent.ScoreUpdated(id, match, updated),
+                new ScoreboardEvent.MatchFinished(id, updated)
+        );
+    }
+
+    @Test
+    void addListener_scoreUpdate_seesUpdatedSummary() {
+        final Scoreboard scoreboard = new Scoreboard();
+        final Match match = scoreboard.startMatch("Germany", "Spain");
+        assertThat(scoreboard.getSummary()).containsExactly(match);
+        assertThat(scoreboard.getMatchesInProgress()).containsExactly(match);
+
+        final List<List<Match>> summaries = new ArrayList<>();
+        final List<List<Match>> inProgress = new ArrayList<>();
+        scoreboard.addListener(event -> {
+            if (event instanceof ScoreboardEvent.ScoreUpdated) {
+                summaries.add(scoreboard.getSummary());
+                inProgress.add(scoreboard.getMatchesInProgress());
+            }
+        });
+        final Match updated = scoreboard.updateMatchScore(match, new Score(1, 0));
+        scoreboard.updateMatchScores(List.of(new ScoreUpdate(updated, new Score(2, 0))));
+
+        final Match latest = scoreboard.getMatchesInProgress().getFirst();
+        assertThat(summaries).containsExactly(List.of(updated), List.of(latest));
+        assertThat(inProgress).containsExactly(List.of(updated), List.of(latest));
+    }
+
+    @Test
+    void slowSubscriber_receivesOnlyLatestScorePerMatch() {
+        final Scoreboard scoreboard = new Scoreboard();
+        final ScoreboardEventPublisher publisher = new ScoreboardEventPublisher(Runnable::run, 16);
+        scoreboard.addListener(publisher);
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+
+        final Match first = scoreboard.startMatch("Germany", "Spain");
+        final Match second = scoreboard.startMatch("Croatia", "Mexico");
+        Match current = first;
+        for (int goals = 1; goals <= 3; goals++) {
+            current = scoreboard.updateMatchScore(current, new Score(goals, 0));
+        }
+        final Match secondUpdated = scoreboard.updateMatchScore(second, new Score(0, 1));
+        assertThat(subscriber.events).isEmpty();
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.events).containsExactly(
+                new ScoreboardEvent.MatchStarted(1, first),
+                new ScoreboardEvent.ScoreUpdated(1, first, current),
+                new ScoreboardEvent.MatchStarted(2, second),
+                new ScoreboardEvent.ScoreUpdated(2, second, secondUpdated)
+        );
+    }
+
+    @Test
+    void pendingFinish_supersedesPendingUpdates() {
+        final Scoreboard scoreboard = new Scoreboard();
+        final ScoreboardEventPublisher publisher = new ScoreboardEventPublisher(Runnable::run, 16);
+        scoreboard.addListener(publisher);
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        final Match match = scoreboard.startMatch("Germany", "Spain");
+        subscriber.subscription.request(1);
+
+        final Match updated = scoreboard.updateMatchScore(match, new Score(2, 1));
+        scoreboard.finishMatch(updated);
+        subscriber.subscription.request(5);
+
+        assertThat(subscriber.events).containsExactly(
+                new ScoreboardEvent.MatchStarted(1, match),
+                new ScoreboardEvent.MatchFinished(1, updated)
+        );
+    }
+
+    @Test
+    void matchStartedAndFinishedWhileBehind_leavesNothingPending() {
+        final Scoreboard scoreboard = new Scoreboard();
+        final ScoreboardEventPublisher publisher = new ScoreboardEventPublisher(Runnable::run, 2);
+        scoreboard.addListener(publisher);
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+
+        for (int i = 0; i < 100; i++) {
+            final Match match = scoreboard.startMatch("Home " + i, "Away " + i);
+            scoreboard.finishMatch(scoreboard.updateMatchScore(match, new Score(1, 0)));
+        }
+        final Match live = scoreboard.startMatch("Germany", "Spain");
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.error).isNull();
+        assertThat(subscriber.events).containsExactly(
+                new ScoreboardEvent.MatchStarted(scoreboard.getMatchId(live), live));
+    }
+
+    @Test
+    void subscriberBehindOnTooManyMatches_isCancelledWithError() {
+        final Scoreboard scoreboard = new Scoreboard();
+        final ScoreboardEventPublisher publisher = new ScoreboardEventPublisher(Runnable::run, 2);
+        scoreboard.addListener(publisher);
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+
+        scoreboard.startMatch("Germany", "Spain");
+        scoreboard.startMatch("Croatia", "Mexico");
+        scoreboard.startMatch("Serbia", "Italy");
+
+        assertThat(subscriber.error).isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("fell behind");
+        assertThat(publisher.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    void unboundedPublisher_keepsSubscriberBehindOnManyMatches() {
+        final Scoreboard scoreboard = new Scoreboard();
+        final ScoreboardEventPublisher publisher =
+                new ScoreboardEventPublisher(Runnable::run, ScoreboardEventPublisher.UNBOUNDED);
+        scoreboard.addListener(publisher);
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+
+        for (int i = 0; i < 2_000; i++) {
+            scoreboard.startMatch("Home " + i, "Away " + i);
+        }
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.error).isNull();
+        assertThat(subscriber.events).hasSize(2_000);
+        assertThat(publisher.getSubscriberCount()).isOne();
+    }
+
+    @Test
+    void cancel_stopsDelivery() {
+        final Scoreboard scoreboard = new Scoreboard();
+        final ScoreboardEventPublisher publisher = new ScoreboardEventPublisher(Runnable::run, 16);
+        scoreboard.addListener(publisher);
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        scoreboard.startMatch("Germany", "Spain");
+        subscriber.subscription.cancel();
+        scoreboard.startMatch("Croatia", "Mexico");
+
+        assertThat(subscriber.events).hasSize(1);
+        assertThat(publisher.getSubscriberCount()).isZero();
+    }
+
+    private static final class RecordingSubscriber implements Flow.Subscriber<ScoreboardEvent> {
+        private final List<ScoreboardEvent> events = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private Throwable error;
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(final ScoreboardEvent item) {
+            events.add(item);
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.hanabezdrob.scoreboard;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ScoreboardJournalTest {
+    private static final JournalOptions SYNC_NO_SNAPSHOTS = new JournalOptions(Duration.ZERO, 0);
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void attach_afterRestart_restoresLiveMatchesWithIdsAndStartTimes() throws IOException {
+        final List<Match> before;
+        final long germanyId;
+        try (ScoreboardJournal journal = ScoreboardJournal.open(directory, SYNC_NO_SNAPSHOTS)) {
+            final Scoreboard scoreboard = journal.attach(new Scoreboard());
+            Match germany = scoreboard.startMatch("Germany", "Spain");
+            final Match croatia = scoreboard.startMatch("Croatia", "Mexico");
+            germany = scoreboard.updateMatchScore(germany, new Score(2, 1));
+            scoreboard.finishMatch(croatia);
+            scoreboard.startMatch("Serbia", "Italy");
+            before = scoreboard.getMatchesInProgress();
+            germanyId = scoreboard.getMatchId(germany);
+        }
+
+        try (ScoreboardJournal journal = ScoreboardJournal.open(directory, SYNC_NO_SNAPSHOTS)) {
+            final Scoreboard recovered = journal.attach(new Scoreboard());
+
+            assertThat(recovered.getMatchesInProgress()).containsExactlyElementsOf(before);
+            assertThat(recovered.getMatchId(recovered.getMatchesInProgress().getFirst())).isEqualTo(germanyId);
+            final Match next = recovered.startMatch("Croatia", "Mexico");
+            assertThat(recovered.getMatchId(next)).isEqualTo(4);
+        }
+    }
+
+    @Test
+    void attach_afterSnapshot_replaysOnlyNewerRecords() throws IOException {
+        final List<Match> before;
+        try (ScoreboardJournal journal = ScoreboardJournal.open(directory, SYNC_NO_SNAPSHOTS)) {
+            final Scoreboard scoreboard = journal.attach(new Scoreboard());
+            final Match germany = scoreboard.updateMatchScore(scoreboard.startMatch("Germany", "Spain"), new Score(1, 0));
+            scoreboard.startMatch("Croatia", "Mexico");
+            journal.snapshot();
+            scoreboard.updateMatchScore(germany, new Score(1, 1));
+            before = scoreboard.getSummary();
+        }
+
+        assertThat(fileNames()).containsExactlyInAnyOrder("snapshot-1.bin", "journal-1.log");
+        try (ScoreboardJournal journal = ScoreboardJournal.open(directory, SYNC_NO_SNAPSHOTS)) {
+            assertThat(journal.attach(new Scoreboard()).getSummary()).containsExactlyElementsOf(before);
+        }
+    }
+
+    @Test
+    void attach_tornTailRecord_isDiscarded() throws IOException {
+        final List<Match> before;
+        try (ScoreboardJournal journal = ScoreboardJournal.open(directory, SYNC_NO_SNAPSHOTS)) {
+            final Scoreboard scoreboard = journal.attach(new Scoreboard());
+            scoreboard.updateMatchScore(scoreboard.startMatch("Germany", "Spain"), new Score(1, 0));
+            before = scoreboard.getMatchesInProgress();
+        }
+        final Path journalFile = directory.resolve("journal-0.log");
+        final long intactSize = Files.size(journalFile);
+        Files.write(journalFile, new byte[]{20, 2, 1, 3}, StandardOpenOption.APPEND);
+
+        try (ScoreboardJournal journal = ScoreboardJournal.open(directory, SYNC_NO_SNAPSHOTS)) {
+            final Scoreboard recovered = journal.attach(new Scoreboard());
+            assertThat(recovered.getMatchesInProgress()).containsExactlyElementsOf(before);
+            assertThat(Files.size(journalFile)).isEqualTo(intactSize);
+        }
+    }
+
+    @Test
+    void snapshotInterval_rollsJournalOverAutomatically() throws IOException {
+        final List<Match> before;
+        try (ScoreboardJournal journal = ScoreboardJournal.open(directory, new JournalOptions(Duration.ofMillis(10), 3))) {
+            final Scoreboard scoreboard = journal.attach(new Scoreboard());
+            Match match = scoreboard.startMatch("Germany", "Spain");
+            for (int goals = 1; goals <= 4; goals++) {
+                match = scoreboard.updateMatchScore(match, new Score(goals, 0));
+            }
+            before = scoreboard.getMatchesInProgress();
+            assertThat(journal.getFsyncFailures()).isZero();
+        }
+
+        assertThat(fileNames()).containsExactlyInAnyOrder("snapshot-1.bin", "journal-1.log");
+        try (ScoreboardJournal journal = ScoreboardJournal.open(directory, SYNC_NO_SNAPSHOTS)) {
+            assertThat(journal.attach(new Scoreboard()).getMatchesInProgress()).containsExactlyElementsOf(before);
+        }
+    }
+
+    @Test
+    void snapshotInterval_crossedByScoreUpdateAfterCachedRead_snapshotsLiveBoard() throws IOException {
+        final List<Match> before;
+        try (ScoreboardJournal journal = ScoreboardJournal.open(directory, new JournalOptions(Duration.ZERO, 2))) {
+            final Scoreboard scoreboard = journal.attach(new Scoreboard());
+            final Match match = scoreboard.startMatch("Germany", "Spain");
+            scoreboard.getMatchesInProgress();
+
+            scoreboard.updateMatchScore(match, new Score(1, 0));
+            before = scoreboard.getMatchesInProgress();
+        }
+
+        assertThat(fileNames()).containsExactlyInAnyOrder("snapshot-1.bin", "journal-1.log");
+        try (ScoreboardJournal journal = ScoreboardJournal.open(directory, SYNC_NO_SNAPSHOTS)) {
+            assertThat(journal.attach(new Scoreboard()).getMatchesInProgress()).containsExactlyElementsOf(before);
+        }
+    }
+
+    @Test
+    void attach_nonEmptyScoreboard_shouldThrowException() throws IOException {
+        final Scoreboard scoreboard = new Scoreboard();
+        scoreboard.startMatch("Germany", "Spain");
+
+        try (ScoreboardJournal journal = ScoreboardJournal.open(directory, SYNC_NO_SNAPSHOTS)) {
+            assertThatThrownBy(() -> journal.attach(scoreboard))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("empty scoreboard");
+        }
+    }
+
+    private List<String> fileNames() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString()).toList();
+        }
+    }
+}
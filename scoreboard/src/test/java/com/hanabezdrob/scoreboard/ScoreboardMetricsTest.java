@@ -0,0 +1,104 @@
+package com.hanabezdrob.scoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+import java.lang.management.ManagementFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class ScoreboardMetricsTest {
+    @Test
+    void instrumentedScoreboard_recordsLatencyPerOperationAndLiveMatches() {
+        final RecordingScoreboardMetrics metrics = new RecordingScoreboardMetrics();
+        final Scoreboard scoreboard = new Scoreboard(metrics);
+
+        final Match match = scoreboard.startMatch("Germany", "Spain");
+        scoreboard.startMatch("Croatia", "Mexico");
+        final Match updated = scoreboard.updateMatchScore(match, new Score(1, 0));
+        scoreboard.getSummary();
+        scoreboard.finishMatch(updated);
+
+        assertThat(metrics.latency(ScoreboardMetrics.Operation.START_MATCH).count()).isEqualTo(2);
+        assertThat(metrics.latency(ScoreboardMetrics.Operation.UPDATE_SCORE).count()).isEqualTo(1);
+        assertThat(metrics.latency(ScoreboardMetrics.Operation.GET_SUMMARY).count()).isEqualTo(1);
+        assertThat(metrics.latency(ScoreboardMetrics.Operation.FINISH_MATCH).count()).isEqualTo(1);
+        assertThat(metrics.getLiveMatches()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectedOperations_areCountedByReason() {
+        final RecordingScoreboardMetrics metrics = new RecordingScoreboardMetrics();
+        final Scoreboard scoreboard = new Scoreboard(metrics);
+        final Match match = scoreboard.updateMatchScore(scoreboard.startMatch("Germany", "Spain"), new Score(2, 0));
+
+        assertThatThrownBy(() -> scoreboard.startMatch("Italy", "Spain")).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> scoreboard.updateMatchScore(match, new Score(1, 0)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> scoreboard.updateMatchScore(match, new Score(8, 0)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> scoreboard.updateMatchScore(new Match("Serbia", "Italy"), new Score(1, 0)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(metrics.rejections(ValidationResult.TEAM_BUSY)).isEqualTo(1);
+        assertThat(metrics.rejections(ValidationResult.SCORE_DECREASE)).isEqualTo(1);
+        assertThat(metrics.rejections(ValidationResult.MAX_DELTA)).isEqualTo(1);
+        assertThat(metrics.rejections(ValidationResult.NOT_FOUND)).isEqualTo(1);
+        assertThat(metrics.rejections(ValidationResult.MAX_SCORE)).isZero();
+        assertThat(metrics.latency(ScoreboardMetrics.Operation.UPDATE_SCORE).count()).isEqualTo(4);
+    }
+
+    @Test
+    void concurrentScoreboard_reportsToSharedMetrics() {
+        final RecordingScoreboardMetrics metrics = new RecordingScoreboardMetrics();
+        final ConcurrentScoreboard first = new ConcurrentScoreboard(metrics);
+        final ConcurrentScoreboard second = new ConcurrentScoreboard(metrics);
+
+        first.startMatch("Germany", "Spain");
+        final Match match = second.startMatch("Germany", "Spain");
+        second.finishMatch(match);
+        assertThatThrownBy(() -> first.startMatch("Germany", "Italy")).isInstanceOf(IllegalStateException.class);
+
+        assertThat(metrics.getLiveMatches()).isEqualTo(1);
+        assertThat(metrics.getOperationCounts()).containsEntry("START_MATCH", 3L).containsEntry("FINISH_MATCH", 1L);
+        assertThat(metrics.getRejectionCounts()).containsEntry("TEAM_BUSY", 1L);
+    }
+
+    @Test
+    void latencyHistogram_percentilesWithinBucketPrecision() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value);
+        }
+
+        assertThat(histogram.count()).isEqualTo(100_000);
+        assertThat((double) histogram.percentile(50)).isCloseTo(50_000, within(50_000 * 0.07));
+        assertThat((double) histogram.percentile(99)).isCloseTo(99_000, within(99_000 * 0.07));
+        assertThat(histogram.percentile(100)).isEqualTo(100_000);
+        assertThat(histogram.max()).isEqualTo(100_000);
+
+        histogram.reset();
+        assertThat(histogram.percentile(99)).isZero();
+    }
+
+    @Test
+    void register_exposesMetricsOverJmx() throws Exception {
+        final RecordingScoreboardMetrics metrics = new RecordingScoreboardMetrics();
+        final Scoreboard scoreboard = new Scoreboard(metrics);
+        scoreboard.startMatch("Germany", "Spain");
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        final ObjectName name = metrics.register("test-board");
+        try {
+            assertThat(server.getAttribute(name, "LiveMatches")).isEqualTo(1L);
+            final TabularData counts = (TabularData) server.getAttribute(name, "OperationCounts");
+            assertThat(counts.get(new Object[]{"START_MATCH"}).get("value")).isEqualTo(1L);
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+}
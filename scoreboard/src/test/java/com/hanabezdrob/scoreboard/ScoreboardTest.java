@@ -4,6 +4,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -59,6 +60,55 @@ class ScoreboardTest {
         assertThat(scoreboard.getMatchesInProgress()).containsExactly(match);
     }
 
+    @Test
+    void updateMatchScores_appliesValidUpdates_andReportsFailures() {
+        final Scoreboard scoreboard = new Scoreboard();
+        final Match first = scoreboard.startMatch("Germany", "Spain");
+        final Match second = scoreboard.startMatch("Croatia", "Mexico");
+        final Match third = scoreboard.startMatch("Serbia", "Italy");
+        final ScoreUpdate rejected = new ScoreUpdate(second, new Score(Scoreboard.MAX_DELTA + 1, 0));
+
+        final BatchUpdateResult result = scoreboard.updateMatchScores(List.of(
+                new ScoreUpdate(first, new Score(1, 0)),
+                rejected,
+                new ScoreUpdate(third, new Score(2, 2))
+        ));
+
+        assertThat(result.updated()).extracting(Match::score).containsExactly(new Score(1, 0), new Score(2, 2));
+        assertThat(result.hasFailures()).isTrue();
+        assertThat(result.failures()).singleElement().satisfies(failure -> {
+            assertThat(failure.update()).isEqualTo(rejected);
+            assertThat(failure.error()).hasMessageContaining("exceeds maximum score increase");
+        });
+        assertThat(scoreboard.getSummary()).containsExactly(result.updated().get(1), result.updated().get(0), second);
+    }
+
+    @Test
+    void updateMatchScoresAtomically_anyInvalidUpdate_appliesNothing() {
+        final Scoreboard scoreboard = new Scoreboard();
+        final Match first = scoreboard.startMatch("Germany", "Spain");
+        final Match second = scoreboard.startMatch("Croatia", "Mexico");
+
+        assertThatThrownBy(() -> scoreboard.updateMatchScoresAtomically(List.of(
+                new ScoreUpdate(first, new Score(1, 0)),
+                new ScoreUpdate(second, new Score(Scoreboard.MAX_SCORE + 1, 0))
+        ))).isInstanceOf(IllegalArgumentException.class);
+        assertThat(scoreboard.getMatchesInProgress()).containsExactly(first, second);
+
+        assertThatThrownBy(() -> scoreboard.updateMatchScoresAtomically(List.of(
+                new ScoreUpdate(first, new Score(1, 0)),
+                new ScoreUpdate(first, new Score(2, 0))
+        ))).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("appears more than once");
+        assertThat(scoreboard.getMatchesInProgress()).containsExactly(first, second);
+
+        final List<Match> updated = scoreboard.updateMatchScoresAtomically(List.of(
+                new ScoreUpdate(first, new Score(1, 0)),
+                new ScoreUpdate(second, new Score(0, 2))
+        ));
+        assertThat(scoreboard.getSummary()).containsExactly(updated.get(1), updated.get(0));
+    }
+
     @Test
     void finishMatch_shouldRemoveMatchFromScoreboard() {
         final Scoreboard scoreboard = new Scoreboard();
@@ -111,6 +161,50 @@ class ScoreboardTest {
         assertThat(scoreboard.getSummary()).isEmpty();
     }
 
+    @Test
+    void getSummary_unchangedBoard_returnsCachedSnapshot() {
+        final Scoreboard scoreboard = new Scoreboard();
+        final Match match = scoreboard.startMatch("Germany", "Spain");
+
+        final List<Match> first = scoreboard.getSummary();
+        assertThat(scoreboard.getSummary()).isSameAs(first);
+
+        final Match updated = scoreboard.updateMatchScore(match, new Score(1, 0));
+        final List<Match> second = scoreboard.getSummary();
+        assertThat(second).isNotSameAs(first).containsExactly(updated);
+        assertThat(first).containsExactly(match);
+    }
+
+    @Test
+    void getSummary_afterScoreChanges_reordersIndex() {
+        final Scoreboard scoreboard = new Scoreboard();
+        Match firstMatch = scoreboard.startMatch("Bosnia and Herzegovina", "Norway");
+        Match secondMatch = scoreboard.startMatch("Croatia", "Mexico");
+        secondMatch = scoreboard.updateMatchScore(secondMatch, new Score(1, 0));
+        assertThat(scoreboard.getSummary().getFirst()).isEqualTo(secondMatch);
+
+        firstMatch = scoreboard.updateMatchScore(firstMatch, new Score(2, 1));
+        assertThat(scoreboard.getSummary()).containsExactly(firstMatch, secondMatch);
+
+        scoreboard.finishMatch(firstMatch);
+        assertThat(scoreboard.getSummary()).containsExactly(secondMatch);
+    }
+
+    @Test
+    void getTopMatches_returnsHeadOfSummary() {
+        final Scoreboard scoreboard = new Scoreboard();
+        final Match first = scoreboard.updateMatchScore(scoreboard.startMatch("Germany", "Spain"), new Score(1, 0));
+        final Match second = scoreboard.updateMatchScore(scoreboard.startMatch("Croatia", "Mexico"), new Score(3, 0));
+        final Match third = scoreboard.updateMatchScore(scoreboard.startMatch("Serbia", "Italy"), new Score(2, 0));
+
+        assertThat(scoreboard.getTopMatches(2)).containsExactly(second, third);
+        assertThat(scoreboard.getSummary()).containsExactly(second, third, first);
+        assertThat(scoreboard.getTopMatches(2)).containsExactly(second, third);
+        assertThat(scoreboard.getTopMatches(10)).containsExactly(second, third, first);
+        assertThat(scoreboard.getTopMatches(0)).isEmpty();
+        assertThatThrownBy(() -> scoreboard.getTopMatches(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     void getMatchesInProgress_onModification_shouldThrowException() {
         final Scoreboard scoreboard = new Scoreboard();
@@ -145,6 +239,153 @@ class ScoreboardTest {
         assertThat(scoreboard.getMatchesInProgress()).isEmpty();
     }
 
+    @Test
+    void getMatchId_isStableAcrossScoreUpdates() {
+        final Scoreboard scoreboard = new Scoreboard();
+        final Match match = scoreboard.startMatch("Germany", "Spain");
+        final long id = scoreboard.getMatchId(match);
+
+        final Match updated = scoreboard.updateMatchScore(match, new Score(1, 0));
+
+        assertThat(scoreboard.getMatchId(updated)).isEqualTo(id);
+        assertThat(scoreboard.findMatch(id)).contains(updated);
+        assertThatThrownBy(() -> scoreboard.getMatchId(match))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Match not found");
+
+        scoreboard.finishMatch(updated);
+        assertThat(scoreboard.findMatch(id)).isEmpty();
+    }
+
+    @Test
+    void updateMatchScore_staleSnapshot_shouldThrowException() {
+        final Scoreboard scoreboard = new Scoreboard();
+        final Match match = scoreboard.startMatch("Germany", "Spain");
+        scoreboard.updateMatchScore(match, new Score(1, 0));
+
+        assertThatThrownBy(() -> scoreboard.updateMatchScore(match, new Score(2, 0)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Match not found");
+    }
+
+    @Test
+    void tryStartMatch_reportsRejectionsAsResults() {
+        final Scoreboard scoreboard = new Scoreboard();
+
+        assertThat(scoreboard.tryStartMatch("Germany", "Spain")).isEqualTo(ValidationResult.OK);
+        assertThat(scoreboard.tryStartMatch("Italy", "Spain")).isEqualTo(ValidationResult.TEAM_BUSY);
+        assertThat(scoreboard.tryStartMatch(null, "Italy")).isEqualTo(ValidationResult.INVALID_TEAMS);
+        assertThat(scoreboard.tryStartMatch("Italy", "Italy")).isEqualTo(ValidationResult.INVALID_TEAMS);
+        assertThat(scoreboard.findMatchByTeam("Spain")).get().extracting(Match::homeTeam).isEqualTo("Germany");
+        assertThat(scoreboard.getMatchesInProgress()).hasSize(1);
+    }
+
+    @Test
+    void tryUpdateScore_reportsRejectionsAsResults() {
+        final Scoreboard scoreboard = new Scoreboard();
+        final Match match = scoreboard.startMatch("Germany", "Spain");
+
+        assertThat(scoreboard.tryUpdateScore(match, new Score(2, 0))).isEqualTo(ValidationResult.OK);
+        final Match updated = scoreboard.findMatchByTeam("Germany").orElseThrow();
+        assertThat(updated.score()).isEqualTo(new Score(2, 0));
+
+        assertThat(scoreboard.tryUpdateScore(match, new Score(3, 0))).isEqualTo(ValidationResult.NOT_FOUND);
+        assertThat(scoreboard.tryUpdateScore(updated, new Score(1, 0))).isEqualTo(ValidationResult.SCORE_DECREASE);
+        assertThat(scoreboard.tryUpdateScore(updated, new Score(8, 0))).isEqualTo(ValidationResult.MAX_DELTA);
+        assertThat(scoreboard.tryUpdateScore(updated, new Score(2, 0))).isEqualTo(ValidationResult.OK);
+        assertThat(scoreboard.getMatchesInProgress()).containsExactly(updated);
+    }
+
+    @Test
+    void updateMatchScore_throwingValidator_surfacesItsOwnException() {
+        final MatchValidator validator = new MatchValidator() {
+            @Override
+            public void validateNewMatch(final String home, final String away, final Iterable<Match> existing) {
+            }
+
+            @Override
+            public void validateScoreUpdate(final Match oldMatch, final Score newScore) {
+                throw new IllegalArgumentException("Goal under review");
+            }
+        };
+        final Scoreboard scoreboard = new Scoreboard(validator);
+        final Match match = scoreboard.startMatch("Germany", "Spain");
+
+        assertThat(scoreboard.tryUpdateScore(match, new Score(1, 0))).isEqualTo(ValidationResult.REJECTED);
+        assertThatThrownBy(() -> scoreboard.updateMatchScore(match, new Score(1, 0)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Goal under review");
+    }
+
+    @Test
+    void startAndUpdate_rejectingValidator_runsItOncePerCall() {
+        final AtomicInteger calls = new AtomicInteger();
+        final MatchValidator validator = new MatchValidator() {
+            @Override
+            public void validateNewMatch(final String home, final String away, final Iterable<Match> existing) {
+                if (calls.incrementAndGet() > 1) {
+                    throw new IllegalStateException("Kick-off closed");
+                }
+            }
+
+            @Override
+            public void validateScoreUpdate(final Match oldMatch, final Score newScore) {
+                calls.incrementAndGet();
+                throw new IllegalArgumentException("Goal under review");
+            }
+        };
+        final Scoreboard scoreboard = new Scoreboard(validator);
+        final Match match = scoreboard.startMatch("Germany", "Spain");
+
+        calls.set(1);
+        assertThatThrownBy(() -> scoreboard.startMatch("Croatia", "Mexico")).hasMessage("Kick-off closed");
+        assertThat(calls).hasValue(2);
+        assertThatThrownBy(() -> scoreboard.updateMatchScore(match, new Score(1, 0))).hasMessage("Goal under review");
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    void ingestScore_dropsDuplicateAndOutOfOrderMessages() {
+        final Scoreboard scoreboard = new Scoreboard();
+        final long id = scoreboard.getMatchId(scoreboard.startMatch("Germany", "Spain"));
+
+        assertThat(scoreboard.ingestScore(id, 2, new Score(2, 0))).isEqualTo(IngestResult.APPLIED);
+        assertThat(scoreboard.ingestScore(id, 2, new Score(2, 0))).isEqualTo(IngestResult.DUPLICATE);
+        assertThat(scoreboard.ingestScore(id, 1, new Score(1, 0))).isEqualTo(IngestResult.STALE);
+        assertThat(scoreboard.ingestScore(id, 3, new Score(2, 0))).isEqualTo(IngestResult.UNCHANGED);
+        assertThat(scoreboard.ingestScore(id, 4, new Score(2, 1))).isEqualTo(IngestResult.APPLIED);
+        final long version = scoreboard.getVersion();
+
+        assertThat(scoreboard.ingestScore(id, 3, new Score(3, 1))).isEqualTo(IngestResult.STALE);
+        assertThat(scoreboard.findMatch(id)).get().extracting(Match::score).isEqualTo(new Score(2, 1));
+        assertThat(scoreboard.getVersion()).isEqualTo(version);
+    }
+
+    @Test
+    void ingestScore_newerInvalidScore_isRejectedWithoutThrowing() {
+        final Scoreboard scoreboard = new Scoreboard();
+        final long id = scoreboard.getMatchId(scoreboard.startMatch("Germany", "Spain"));
+        scoreboard.ingestScore(id, 1, new Score(2, 0));
+
+        assertThat(scoreboard.ingestScore(id, 2, new Score(1, 0))).isEqualTo(IngestResult.REJECTED);
+        assertThat(scoreboard.ingestScore(id, 2, new Score(3, 0))).isEqualTo(IngestResult.APPLIED);
+        assertThat(scoreboard.ingestScore(id + 1, 1, new Score(1, 0))).isEqualTo(IngestResult.NOT_FOUND);
+    }
+
+    @Test
+    void startMatch_afterFinish_releasesTeams() {
+        final Scoreboard scoreboard = new Scoreboard();
+        final Match match = scoreboard.startMatch("Germany", "Spain");
+
+        assertThatThrownBy(() -> scoreboard.startMatch("Spain", "Italy"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Team Spain has a match in progress");
+
+        scoreboard.finishMatch(match);
+        final Match rematch = scoreboard.startMatch("Spain", "Italy");
+        assertThat(scoreboard.getMatchesInProgress()).containsExactly(rematch);
+    }
+
     @Test
     void startMatch_usesInjectedValidator() {
         final AtomicBoolean called = new AtomicBoolean(false);
@@ -163,4 +404,55 @@ class ScoreboardTest {
         scoreboard.startMatch("Bosnia and Herzegovina","Croatia");
         assertThat(called).isTrue();
     }
+
+    @Test
+    void addRanking_keepsEveryRankingUpToDate() {
+        final Scoreboard scoreboard = new Scoreboard();
+        scoreboard.addRanking("margin", RankingStrategy.GOAL_DIFFERENCE);
+        scoreboard.addRanking("home", RankingStrategy.HOME_GOALS);
+        scoreboard.addRanking("latest", RankingStrategy.MOST_RECENTLY_UPDATED);
+        final Match mexico = scoreboard.updateMatchScore(scoreboard.startMatch("Mexico", "Canada"), new Score(0, 5));
+        final Match spain = scoreboard.updateMatchScore(scoreboard.startMatch("Spain", "Brazil"), new Score(3, 2));
+        final Match germany = scoreboard.updateMatchScore(scoreboard.startMatch("Germany", "France"), new Score(2, 0));
+
+        assertThat(scoreboard.getRanking("margin")).containsExactly(mexico, germany, spain);
+        assertThat(scoreboard.getRanking("home")).containsExactly(spain, germany, mexico);
+        assertThat(scoreboard.getRanking("latest")).containsExactly(germany, spain, mexico);
+
+        final Match mexicoScored = scoreboard.updateMatchScore(mexico, new Score(4, 5));
+        scoreboard.finishMatch(germany);
+
+        assertThat(scoreboard.getRanking("margin")).containsExactly(spain, mexicoScored);
+        assertThat(scoreboard.getRanking("home")).containsExactly(mexicoScored, spain);
+        assertThat(scoreboard.getRanking("latest", 1)).containsExactly(mexicoScored);
+        assertThat(scoreboard.getRankingNames()).containsExactly("margin", "home", "latest");
+    }
+
+    @Test
+    void addRanking_indexesMatchesAlreadyLive() {
+        final Scoreboard scoreboard = new Scoreboard();
+        final Match mexico = scoreboard.updateMatchScore(scoreboard.startMatch("Mexico", "Canada"), new Score(0, 5));
+        final Match spain = scoreboard.updateMatchScore(scoreboard.startMatch("Spain", "Brazil"), new Score(3, 3));
+        final Match germany = scoreboard.updateMatchScore(scoreboard.startMatch("Germany", "France"), new Score(2, 2));
+
+        scoreboard.addRanking("total", RankingStrategy.TOTAL_GOALS);
+
+        assertThat(scoreboard.getRanking("total")).containsExactly(spain, mexico, germany)
+                .containsExactlyElementsOf(scoreboard.getSummary());
+    }
+
+    @Test
+    void getRanking_unknownOrDuplicateName_shouldThrowException() {
+        final Scoreboard scoreboard = new Scoreboard();
+        scoreboard.addRanking("home", RankingStrategy.HOME_GOALS);
+
+        assertThatThrownBy(() -> scoreboard.addRanking("home", RankingStrategy.GOAL_DIFFERENCE))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Ranking home already exists");
+
+        scoreboard.removeRanking("home");
+        assertThatThrownBy(() -> scoreboard.getRanking("home"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown ranking home");
+    }
 }
@@ -0,0 +1,100 @@
+package com.hanabezdrob.scoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ScoreboardWireFormatTest {
+    private final ScoreboardWireEncoder encoder = new ScoreboardWireEncoder();
+    private final ScoreboardWireDecoder decoder = new ScoreboardWireDecoder();
+
+    @Test
+    void snapshot_roundTrip_rebuildsSummaryAndIds() {
+        final Scoreboard scoreboard = new Scoreboard();
+        final Match mexico = scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.updateMatchScore(mexico, new Score(0, 5));
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(1024);
+
+        final int written = encoder.writeSnapshot(buffer, scoreboard);
+        final WireSnapshot snapshot = decoder.readSnapshot(buffer.flip());
+
+        assertThat(buffer.position()).isEqualTo(written);
+        assertThat(snapshot.version()).isEqualTo(scoreboard.getVersion());
+        assertThat(snapshot.matches()).containsExactlyElementsOf(scoreboard.getSummary());
+        for (int i = 0; i < snapshot.size(); i++) {
+            assertThat(snapshot.matchId(i)).isEqualTo(scoreboard.getMatchId(snapshot.match(i)));
+        }
+        assertThat(snapshot.match(0)).isSameAs(snapshot.match(0));
+    }
+
+    @Test
+    void events_roundTrip_sendTeamNamesOnlyOnce() {
+        final Scoreboard scoreboard = new Scoreboard();
+        final List<ScoreboardEvent> events = new ArrayList<>();
+        scoreboard.addListener(events::add);
+        final Match match = scoreboard.startMatch("Germany", "France");
+        final Match updated = scoreboard.updateMatchScore(match, new Score(1, 0));
+        scoreboard.finishMatch(updated);
+        final ByteBuffer buffer = ByteBuffer.allocate(256);
+
+        final int started = encoder.writeEvent(buffer, events.get(0));
+        final int scored = encoder.writeEvent(buffer, events.get(1));
+        encoder.writeEvent(buffer, events.get(2));
+        buffer.flip();
+
+        assertThat(List.of(decoder.readEvent(buffer), decoder.readEvent(buffer), decoder.readEvent(buffer)))
+                .containsExactlyElementsOf(events);
+        assertThat(buffer.hasRemaining()).isFalse();
+        assertThat(started).isGreaterThan("Germany".length() + "France".length());
+        assertThat(scored).isLessThan(started - "Germany".length() - "France".length() + 3);
+    }
+
+    @Test
+    void snapshot_resetsDictionary_soDecoderCanJoinThere() {
+        final Match first = new Match("Italy", "Wales", new Score(0, 0), Instant.parse("2024-06-14T19:00:00Z"));
+        final Match second = new Match("Japan", "Ghana", new Score(2, 2), Instant.parse("2024-06-14T18:00:00.123Z"));
+        final ByteBuffer buffer = ByteBuffer.allocate(512);
+        encoder.writeEvent(buffer, new ScoreboardEvent.MatchStarted(1, first));
+        final int snapshotStart = buffer.position();
+        encoder.writeSnapshot(buffer, 9, List.of(second, first), match -> match == first ? 1 : 2);
+        encoder.writeEvent(buffer, new ScoreboardEvent.MatchFinished(1, first));
+        buffer.flip().position(snapshotStart);
+
+        final WireSnapshot snapshot = decoder.readSnapshot(buffer);
+
+        assertThat(snapshot.matches()).containsExactly(second, first);
+        assertThat(decoder.readEvent(buffer)).isEqualTo(new ScoreboardEvent.MatchFinished(1, first));
+    }
+
+    @Test
+    void writeSnapshot_bufferTooSmall_writesNothing() {
+        final Scoreboard scoreboard = new Scoreboard();
+        scoreboard.startMatch("Mexico", "Canada");
+        final ByteBuffer buffer = ByteBuffer.allocate(8);
+
+        assertThatThrownBy(() -> encoder.writeSnapshot(buffer, scoreboard))
+                .isInstanceOf(BufferOverflowException.class);
+        assertThat(buffer.position()).isZero();
+    }
+
+    @Test
+    void readEvent_unknownTeamBeforeSnapshot_throws() {
+        final ByteBuffer buffer = ByteBuffer.allocate(256);
+        encoder.writeEvent(buffer, new ScoreboardEvent.MatchStarted(1, new Match("Italy", "Wales")));
+        final int second = buffer.position();
+        encoder.writeEvent(buffer, new ScoreboardEvent.MatchStarted(2, new Match("Japan", "Wales")));
+        buffer.flip().position(second);
+
+        assertThatThrownBy(() -> decoder.readEvent(buffer))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Stream must be read from a snapshot");
+    }
+}
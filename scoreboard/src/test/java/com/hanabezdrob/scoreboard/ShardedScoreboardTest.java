@@ -0,0 +1,69 @@
+package com.hanabezdrob.scoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShardedScoreboardTest {
+    @Test
+    void shard_isCreatedOncePerCompetition() {
+        final ShardedScoreboard scoreboards = new ShardedScoreboard();
+
+        final ConcurrentScoreboard worldCup = scoreboards.shard("World Cup");
+
+        assertThat(scoreboards.shard("World Cup")).isSameAs(worldCup);
+        assertThat(scoreboards.findShard("Premier League")).isEmpty();
+        assertThat(scoreboards.getCompetitions()).containsExactly("World Cup");
+
+        scoreboards.removeShard("World Cup");
+        assertThat(scoreboards.getCompetitions()).isEmpty();
+    }
+
+    @Test
+    void getCompetitions_returnsNamesInOrder() {
+        final ShardedScoreboard scoreboards = new ShardedScoreboard();
+        for (final String competition : List.of("World Cup", "Bundesliga", "Premier League", "FA Cup", "La Liga")) {
+            scoreboards.shard(competition);
+        }
+
+        assertThat(scoreboards.getCompetitions())
+                .containsExactly("Bundesliga", "FA Cup", "La Liga", "Premier League", "World Cup");
+    }
+
+    @Test
+    void shards_enforceTeamUniquenessIndependently() {
+        final ShardedScoreboard scoreboards = new ShardedScoreboard();
+        scoreboards.shard("Premier League").startMatch("Arsenal", "Chelsea");
+
+        scoreboards.shard("FA Cup").startMatch("Arsenal", "Liverpool");
+
+        assertThatThrownBy(() -> scoreboards.shard("Premier League").startMatch("Arsenal", "Everton"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void getTopMatches_mergesShardsInSummaryOrder() {
+        final ShardedScoreboard scoreboards = new ShardedScoreboard();
+        final ConcurrentScoreboard worldCup = scoreboards.shard("World Cup");
+        final ConcurrentScoreboard league = scoreboards.shard("Premier League");
+        final Match germany = worldCup.updateMatchScore(worldCup.startMatch("Germany", "Spain"), new Score(3, 2));
+        final Match croatia = worldCup.updateMatchScore(worldCup.startMatch("Croatia", "Mexico"), new Score(1, 0));
+        final Match arsenal = league.updateMatchScore(league.startMatch("Arsenal", "Chelsea"), new Score(2, 2));
+        final Match everton = league.updateMatchScore(league.startMatch("Everton", "Fulham"), new Score(0, 2));
+        scoreboards.shard("FA Cup");
+
+        final List<CompetitionMatch> top = scoreboards.getTopMatches(3);
+
+        assertThat(top).containsExactly(
+                new CompetitionMatch("World Cup", germany),
+                new CompetitionMatch("Premier League", arsenal),
+                new CompetitionMatch("Premier League", everton)
+        );
+        assertThat(scoreboards.getSummary()).extracting(CompetitionMatch::match)
+                .containsExactly(germany, arsenal, everton, croatia);
+        assertThat(scoreboards.getTopMatches(0)).isEmpty();
+    }
+}
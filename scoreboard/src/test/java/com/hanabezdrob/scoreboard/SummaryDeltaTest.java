@@ -0,0 +1,92 @@
+package com.hanabezdrob.scoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SummaryDeltaTest {
+    @Test
+    void getVersion_incrementsOnEveryChange() {
+        final Scoreboard scoreboard = new Scoreboard();
+        assertThat(scoreboard.getVersion()).isZero();
+
+        final Match match = scoreboard.startMatch("Germany", "Spain");
+        final Match updated = scoreboard.updateMatchScore(match, new Score(1, 0));
+        scoreboard.updateMatchScore(updated, new Score(1, 0));
+        scoreboard.finishMatch(updated);
+        scoreboard.finishMatch(updated);
+
+        assertThat(scoreboard.getVersion()).isEqualTo(3);
+    }
+
+    @Test
+    void getSummaryChangesSince_currentVersion_isEmpty() {
+        final Scoreboard scoreboard = new Scoreboard();
+        scoreboard.startMatch("Germany", "Spain");
+
+        final SummaryDelta delta = scoreboard.getSummaryChangesSince(scoreboard.getVersion());
+
+        assertThat(delta.isEmpty()).isTrue();
+        assertThat(delta.toVersion()).isEqualTo(scoreboard.getVersion());
+    }
+
+    @Test
+    void getSummaryChangesSince_reportsAddedChangedRemovedAndMoved() throws InterruptedException {
+        final Scoreboard scoreboard = new Scoreboard();
+        final Match first = scoreboard.startMatch("Bosnia and Herzegovina", "Norway");
+        Thread.sleep(5); // pause so the first match is not the most recent one
+        final Match second = scoreboard.startMatch("Croatia", "Mexico");
+        final Match third = scoreboard.startMatch("Serbia", "Italy");
+        final long seen = scoreboard.getVersion();
+        final List<Match> seenSummary = scoreboard.getSummary();
+
+        final Match firstUpdated = scoreboard.updateMatchScore(first, new Score(1, 0));
+        scoreboard.finishMatch(second);
+        final Match fourth = scoreboard.startMatch("Germany", "Spain");
+        final Match transient_ = scoreboard.startMatch("France", "Belgium");
+        scoreboard.finishMatch(transient_);
+
+        final SummaryDelta delta = scoreboard.getSummaryChangesSince(seen);
+
+        final List<Match> summary = scoreboard.getSummary();
+        assertThat(summary.getFirst()).isEqualTo(firstUpdated);
+        assertThat(delta.full()).isFalse();
+        assertThat(delta.fromVersion()).isEqualTo(seen);
+        assertThat(delta.added()).containsExactly(fourth);
+        assertThat(delta.changed()).containsExactly(firstUpdated);
+        assertThat(delta.removed()).containsExactly(second);
+        assertThat(delta.moved()).contains(new SummaryDelta.RankMove(firstUpdated, seenSummary.indexOf(first), 0));
+        assertThat(delta.moved()).allSatisfy(move -> {
+            assertThat(move.rank()).isEqualTo(summary.indexOf(move.match())).isNotEqualTo(move.previousRank());
+            final Match seenMatch = move.match().equals(firstUpdated) ? first : move.match();
+            assertThat(move.previousRank()).isEqualTo(seenSummary.indexOf(seenMatch));
+        });
+    }
+
+    @Test
+    void getSummaryChangesSince_versionOlderThanHistory_returnsFullSummary() {
+        final Scoreboard scoreboard = new Scoreboard();
+        Match match = scoreboard.startMatch("Germany", "Spain");
+        for (int i = 0; i < Scoreboard.CHANGE_HISTORY_SIZE; i++) {
+            scoreboard.finishMatch(match);
+            match = scoreboard.startMatch("Germany", "Spain");
+        }
+
+        final SummaryDelta delta = scoreboard.getSummaryChangesSince(0);
+
+        assertThat(delta.full()).isTrue();
+        assertThat(delta.added()).isEqualTo(scoreboard.getSummary());
+    }
+
+    @Test
+    void getSummaryChangesSince_unknownVersion_shouldThrowException() {
+        final Scoreboard scoreboard = new Scoreboard();
+
+        assertThatThrownBy(() -> scoreboard.getSummaryChangesSince(1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unknown version 1");
+    }
+}